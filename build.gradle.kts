@@ -3,6 +3,7 @@ import net.ltgt.gradle.errorprone.errorprone
 plugins {
     `kotlin-dsl`
     alias(libs.plugins.gradle.publish) apply false
+    alias(libs.plugins.jmh) apply false
 
     alias(libs.plugins.spotless)
     alias(libs.plugins.errorprone)
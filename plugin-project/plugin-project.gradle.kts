@@ -1,5 +1,10 @@
+import net.ltgt.gradle.errorprone.errorprone
 import org.gradle.plugin.devel.tasks.PluginUnderTestMetadata
 
+plugins {
+    alias(libs.plugins.jmh)
+}
+
 val functionalTest by sourceSets.creating {
     compileClasspath += sourceSets.main.get().output
     runtimeClasspath += sourceSets.main.get().output
@@ -40,6 +45,17 @@ tasks.named<PluginUnderTestMetadata>("pluginUnderTestMetadata") {
     pluginClasspath.from(functionalTestCompileOnlyRuntime)
 }
 
+jmh {
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
+
+tasks.named<JavaCompile>("jmhCompileGeneratedClasses") {
+    // Generated by JMH, not subject to the project's checks.
+    options.compilerArgs = listOf()
+    options.errorprone.isEnabled.set(false)
+}
+
 tasks.check {
     dependsOn(functionalTestTask)
 }
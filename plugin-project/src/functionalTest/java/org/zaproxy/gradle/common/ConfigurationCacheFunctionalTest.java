@@ -0,0 +1,98 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationCacheFunctionalTest extends JavaFunctionalTest {
+
+    private static final String CONFIGURATION_CACHE = "--configuration-cache";
+    private static final String ISOLATED_PROJECTS = "-Dorg.gradle.unsafe.isolated-projects=true";
+
+    private static final String CACHE_STORED = "Configuration cache entry stored.";
+    private static final String CACHE_REUSED = "Reusing configuration cache.";
+
+    private static final String SPOTLESS_APPLY = ":spotlessApply";
+    private static final String COMPILE_JAVA = ":compileJava";
+    private static final String CHECK_PROPERTIES_FORMAT = ":checkPropertiesFormat";
+    private static final String VALIDATE_PROPERTIES = ":validateProperties";
+
+    @Test
+    void shouldReuseConfigurationCacheWithJavaPlugin() throws Exception {
+        // Given
+        buildFileWithJavaPlugin();
+        createJavaFile();
+        createFile("a = 1\n", projectDir.resolve("src/main/resources/Messages.properties"));
+        BuildResult firstResult = build(CONFIGURATION_CACHE, SPOTLESS_APPLY, COMPILE_JAVA);
+        // When
+        BuildResult result = build(CONFIGURATION_CACHE, SPOTLESS_APPLY, COMPILE_JAVA);
+        // Then
+        assertThat(firstResult.getOutput()).contains(CACHE_STORED);
+        assertThat(result.getOutput()).contains(CACHE_REUSED);
+    }
+
+    @Test
+    void shouldReuseConfigurationCacheWithPropertiesTasks() throws Exception {
+        // Given
+        buildFileWithoutJavaPlugin();
+        createFile("a = 1\n", projectDir.resolve("Messages.properties"));
+        BuildResult firstResult =
+                build(CONFIGURATION_CACHE, CHECK_PROPERTIES_FORMAT, VALIDATE_PROPERTIES);
+        createFile("b = 1\n", projectDir.resolve("other/Messages.properties"));
+        // When
+        BuildResult result =
+                build(CONFIGURATION_CACHE, CHECK_PROPERTIES_FORMAT, VALIDATE_PROPERTIES);
+        // Then
+        assertThat(firstResult.getOutput()).contains(CACHE_STORED);
+        assertThat(result.getOutput()).contains(CACHE_REUSED);
+        assertTaskSuccess(result, CHECK_PROPERTIES_FORMAT);
+        assertTaskSuccess(result, VALIDATE_PROPERTIES);
+    }
+
+    @Test
+    void shouldBeCompatibleWithIsolatedProjects() throws Exception {
+        // Given
+        createFile("include(\"sub\")", projectDir.resolve("settings.gradle.kts"));
+        buildFile(
+                """
+                plugins {
+                    id("org.zaproxy.common")
+                }""");
+        createFile(
+                """
+                plugins {
+                    `java-library`
+                    id("org.zaproxy.common")
+                }""",
+                projectDir.resolve("sub/build.gradle.kts"));
+        createFile(CONTENT_JAVA_FILE, projectDir.resolve("sub/src/main/java/Example.java"));
+        createFile("a = 1\n", projectDir.resolve("Messages.properties"));
+        createFile("b=1\n", projectDir.resolve("sub/Messages.properties"));
+        // When
+        BuildResult result = build(ISOLATED_PROJECTS, CHECK_PROPERTIES_FORMAT, ":sub:compileJava");
+        // Then
+        assertTaskSuccess(result, CHECK_PROPERTIES_FORMAT);
+        assertTaskSuccess(result, ":sub:compileJava");
+        assertThat(result.getOutput()).doesNotContain("problems were found");
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationProfileFunctionalTest extends JavaFunctionalTest {
+
+    private static final String HELP = "help";
+    private static final String PROFILE = "-Porg.zaproxy.common.profile=true";
+    private static final String SUMMARY = "Configuration profile of the ZAP common plugin:";
+
+    private Path report;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buildFileWithJavaPlugin();
+        createFile("a = 1\n", projectDir.resolve("src/main/resources/Messages.properties"));
+        createFile("b = 1\n", projectDir.resolve("src/main/resources/other/Messages.properties"));
+        report = projectDir.resolve("build/reports/zap-common/configuration-profile.json");
+    }
+
+    @Test
+    void shouldNotProfileByDefault() throws Exception {
+        // Given / When
+        BuildResult result = build(HELP);
+        // Then
+        assertThat(result.getOutput()).doesNotContain(SUMMARY);
+        assertThat(report).doesNotExist();
+    }
+
+    @Test
+    void shouldProfileIfEnabled() throws Exception {
+        // Given / When
+        BuildResult result = build(PROFILE, HELP);
+        // Then
+        assertThat(result.getOutput())
+                .contains(SUMMARY)
+                .containsPattern(":\\s+apply\\s+\\d+\\.\\d{3}\\s+1")
+                .containsPattern(":\\s+configureJavaPlugin\\s+\\d+\\.\\d{3}\\s+1")
+                .containsPattern(":\\s+configureSpotlessJava\\s+\\d+\\.\\d{3}\\s+1")
+                .containsPattern(":\\s+configureSpotlessProperties\\s+\\d+\\.\\d{3}\\s+1")
+                .containsPattern(":\\s+propertiesFiles\\s+2");
+        assertThat(report)
+                .content()
+                .contains("{\"path\":\":\",\"actions\":{\"apply\":{\"count\":1,\"millis\":")
+                .contains("\"counts\":{\"propertiesFiles\":2}");
+    }
+}
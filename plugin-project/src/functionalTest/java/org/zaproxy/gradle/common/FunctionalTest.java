@@ -43,8 +43,12 @@ public abstract class FunctionalTest {
     }
 
     protected BuildResult build(String... arguments) throws Exception {
+        return build(projectDir, arguments);
+    }
+
+    protected static BuildResult build(Path dir, String... arguments) throws Exception {
         return GradleRunner.create()
-                .withProjectDir(projectDir.toFile())
+                .withProjectDir(dir.toFile())
                 .withArguments(arguments)
                 .withPluginClasspath()
                 .build();
@@ -54,6 +58,14 @@ public abstract class FunctionalTest {
         assertTaskOutcome(result, taskName, TaskOutcome.SUCCESS);
     }
 
+    protected static void assertTaskUpToDate(BuildResult result, String taskName) {
+        assertTaskOutcome(result, taskName, TaskOutcome.UP_TO_DATE);
+    }
+
+    protected static void assertTaskFromCache(BuildResult result, String taskName) {
+        assertTaskOutcome(result, taskName, TaskOutcome.FROM_CACHE);
+    }
+
     private static void assertTaskOutcome(
             BuildResult result, String taskName, TaskOutcome outcome) {
         assertThat(result.task(taskName)).extracting(BuildTask::getOutcome).isEqualTo(outcome);
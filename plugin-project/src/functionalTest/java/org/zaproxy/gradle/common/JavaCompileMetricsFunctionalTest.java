@@ -0,0 +1,128 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JavaCompileMetricsFunctionalTest extends JavaFunctionalTest {
+
+    private static final String COMPILE_JAVA = ":compileJava";
+    private static final String METRICS = "-Porg.zaproxy.common.javaCompile.metrics=true";
+    private static final String SUMMARY = "Java compile metrics:";
+
+    private Path textReport;
+    private Path jsonReport;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buildFileWithJavaPlugin();
+        createJavaFile();
+        textReport = projectDir.resolve("build/reports/zap-common/java-compile-metrics.txt");
+        jsonReport = projectDir.resolve("build/reports/zap-common/java-compile-metrics.json");
+    }
+
+    @Test
+    void shouldNotCollectMetricsByDefault() throws Exception {
+        // Given / When
+        BuildResult result = build(COMPILE_JAVA);
+        // Then
+        assertTaskSuccess(result, COMPILE_JAVA);
+        assertThat(result.getOutput()).doesNotContain(SUMMARY);
+        assertThat(textReport).doesNotExist();
+        assertThat(jsonReport).doesNotExist();
+    }
+
+    @Test
+    void shouldCollectMetricsIfEnabled() throws Exception {
+        // Given
+        createFile(
+                "package org.zaproxy.example;\n\nclass Other {}",
+                projectDir.resolve("src/main/java/org/zaproxy/example/Other.java"));
+        // When
+        BuildResult result = build(METRICS, COMPILE_JAVA);
+        // Then
+        assertTaskSuccess(result, COMPILE_JAVA);
+        assertThat(result.getOutput())
+                .contains(SUMMARY)
+                .containsPattern(":compileJava\\s+\\d+\\s+2\\s+0\\s+full");
+        assertThat(textReport).content().contains(SUMMARY).contains(":compileJava");
+        assertThat(jsonReport)
+                .content()
+                .containsPattern(
+                        "\\{\"path\":\":compileJava\",\"millis\":\\d+,\"sources\":2,"
+                                + "\"processorPath\":0,\"compilation\":\"full\"}");
+    }
+
+    @Test
+    void shouldCollectMetricsIfEnabledInExtension() throws Exception {
+        // Given
+        appendBuildFile(
+                """
+
+                zapCommon {
+                    javaCompile {
+                        metrics.set(true)
+                    }
+                }
+                """);
+        // When
+        BuildResult result = build(COMPILE_JAVA);
+        // Then
+        assertTaskSuccess(result, COMPILE_JAVA);
+        assertThat(result.getOutput()).contains(SUMMARY);
+        assertThat(jsonReport).content().contains("\"path\":\":compileJava\"");
+    }
+
+    @Test
+    void shouldReportIncrementalCompilation() throws Exception {
+        // Given
+        build(METRICS, COMPILE_JAVA);
+        createFile(
+                "package org.zaproxy.example;\n\nclass Other {}",
+                projectDir.resolve("src/main/java/org/zaproxy/example/Other.java"));
+        // When
+        BuildResult result = build(METRICS, COMPILE_JAVA);
+        // Then
+        assertTaskSuccess(result, COMPILE_JAVA);
+        assertThat(jsonReport).content().contains("\"sources\":2,").contains("\"incremental\"");
+    }
+
+    @Test
+    void shouldNotReportUpToDateTasks() throws Exception {
+        // Given
+        build(METRICS, COMPILE_JAVA);
+        // When
+        BuildResult result = build(METRICS, COMPILE_JAVA);
+        // Then
+        assertTaskUpToDate(result, COMPILE_JAVA);
+        assertThat(result.getOutput()).doesNotContain(SUMMARY);
+    }
+
+    private void appendBuildFile(String content) throws Exception {
+        var buildFile = projectDir.resolve("build.gradle.kts");
+        Files.writeString(buildFile, Files.readString(buildFile) + content);
+    }
+}
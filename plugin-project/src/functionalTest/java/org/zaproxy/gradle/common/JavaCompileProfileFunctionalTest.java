@@ -0,0 +1,202 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.UnexpectedBuildFailure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class JavaCompileProfileFunctionalTest extends JavaFunctionalTest {
+
+    private static final String COMPILE_JAVA = ":compileJava";
+    private static final String LINT_JAVA = ":lintJava";
+    private static final String PRINT_OPTIONS = "printOptions";
+
+    private static final String PRINT_OPTIONS_TASK =
+            """
+
+            tasks.compileJava {
+                doLast {
+                    println("fork=" + options.isFork + " memory=" + options.forkOptions.memoryMaximumSize)
+                }
+            }
+
+            tasks.register("printOptions") {
+                val compileArgs = tasks.compileJava.get().options.allCompilerArgs
+                val lintArgs =
+                    (tasks.findByName("lintJava") as JavaCompile?)?.options?.allCompilerArgs
+                doLast {
+                    println("compileArgs=" + compileArgs)
+                    println("lintArgs=" + lintArgs)
+                }
+            }
+            """;
+
+    private static final String PERFORMANCE_PROFILE =
+            """
+
+            zapCommon {
+                javaCompile {
+                    profile.set(org.zaproxy.gradle.common.JavaCompileSettings.Profile.PERFORMANCE)
+                    forkMemoryMaximumSize.set("2g")
+                    compilePolicy.set("byfile")
+                }
+            }
+            """;
+
+    private static final String ADD_COMPILER_ARG =
+            """
+
+            tasks.withType<JavaCompile>().configureEach {
+                options.compilerArgs.add("-Xdiags:verbose")
+            }
+            """;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buildFileWithJavaPlugin();
+        createJavaFile();
+    }
+
+    @Test
+    void shouldUseDefaultProfile() throws Exception {
+        // Given
+        appendBuildFile(PRINT_OPTIONS_TASK);
+        // When
+        BuildResult result = build(PRINT_OPTIONS, COMPILE_JAVA);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-Xlint:all, -Werror, -parameters]")
+                .contains("fork=false memory=null")
+                .contains("lintArgs=null");
+    }
+
+    @Test
+    void shouldKeepCompilerArgsAddedByBuildInDefaultProfile() throws Exception {
+        // Given
+        appendBuildFile(ADD_COMPILER_ARG + PRINT_OPTIONS_TASK);
+        // When
+        BuildResult result = build(PRINT_OPTIONS);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-Xlint:all, -Werror, -parameters, -Xdiags:verbose]");
+    }
+
+    @Test
+    void shouldKeepCompilerArgsAddedByBuildInPerformanceProfile() throws Exception {
+        // Given
+        appendBuildFile(ADD_COMPILER_ARG + PERFORMANCE_PROFILE + PRINT_OPTIONS_TASK);
+        // When
+        BuildResult result = build(PRINT_OPTIONS);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-parameters, -Xdiags:verbose, -XDcompilePolicy=byfile]")
+                .contains("lintArgs=[-Xlint:all, -Werror, -parameters, -Xdiags:verbose]");
+    }
+
+    @Test
+    void shouldUsePerformanceProfile() throws Exception {
+        // Given
+        appendBuildFile(PERFORMANCE_PROFILE + PRINT_OPTIONS_TASK);
+        // When
+        BuildResult result = build(PRINT_OPTIONS, COMPILE_JAVA, LINT_JAVA);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-parameters, -XDcompilePolicy=byfile]")
+                .contains("fork=true memory=2g")
+                .contains("lintArgs=[-Xlint:all, -Werror, -parameters]");
+        assertTaskSuccess(result, LINT_JAVA);
+    }
+
+    @Test
+    void shouldUsePerformanceProfileSetAfterTasksAreConfigured() throws Exception {
+        // Given
+        appendBuildFile(PRINT_OPTIONS_TASK + PERFORMANCE_PROFILE);
+        // When
+        BuildResult result = build(PRINT_OPTIONS, COMPILE_JAVA, LINT_JAVA);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-parameters, -XDcompilePolicy=byfile]")
+                .contains("fork=true memory=2g");
+        assertTaskSuccess(result, LINT_JAVA);
+    }
+
+    @Test
+    void shouldUsePerformanceProfileFromGradleProperty() throws Exception {
+        // Given
+        appendBuildFile(PRINT_OPTIONS_TASK);
+        // When
+        BuildResult result =
+                build(
+                        "-Porg.zaproxy.common.javaCompile.profile=performance",
+                        PRINT_OPTIONS,
+                        COMPILE_JAVA,
+                        LINT_JAVA);
+        // Then
+        assertThat(result.getOutput())
+                .contains("compileArgs=[-parameters]")
+                .contains("fork=true memory=1g")
+                .contains("lintArgs=[-Xlint:all, -Werror, -parameters]");
+        assertTaskSuccess(result, LINT_JAVA);
+    }
+
+    @Test
+    void shouldCompileWithWarningsButFailLintInPerformanceProfile() throws Exception {
+        // Given
+        createFile(
+                """
+                package org.zaproxy.example;
+
+                public class Example {
+                    java.util.List l = new java.util.ArrayList<Number>();
+                    java.util.List<String> ls = l;
+                }""",
+                projectDir.resolve("src/main/java/org/zaproxy/example/Example.java"));
+        String profile = "-Porg.zaproxy.common.javaCompile.profile=performance";
+        // When
+        BuildResult compileResult = build(profile, COMPILE_JAVA);
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(profile, LINT_JAVA));
+        // Then
+        assertTaskSuccess(compileResult, COMPILE_JAVA);
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, LINT_JAVA);
+        assertThat(result.getOutput()).contains("error: warnings found and -Werror specified");
+    }
+
+    @Test
+    void shouldNotRegisterLintInDefaultProfile() throws Exception {
+        // Given / When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(LINT_JAVA));
+        // Then
+        assertThat(ex.getBuildResult().getOutput()).contains("Task 'lintJava' not found");
+    }
+
+    private void appendBuildFile(String content) throws Exception {
+        var buildFile = projectDir.resolve("build.gradle.kts");
+        Files.writeString(buildFile, Files.readString(buildFile) + content);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zaproxy.gradle.common.JavaFunctionalTest;
+
+class BuildCacheFunctionalTest extends JavaFunctionalTest {
+
+    private static final String SPOTLESS_JAVA = ":spotlessJava";
+    private static final String SPOTLESS_PROPERTIES = ":spotlessProperties";
+
+    @TempDir Path cacheDir;
+    @TempDir Path otherProjectDir;
+
+    @Test
+    void shouldReuseCachedResultsInOtherProjectDirectory() throws Exception {
+        // Given
+        createFile(
+                String.format(
+                        """
+                        buildCache {
+                            local {
+                                directory = uri("%s")
+                            }
+                        }""",
+                        cacheDir.toUri()),
+                projectDir.resolve("settings.gradle.kts"));
+        buildFileWithJavaPlugin();
+        createJavaFile();
+        createFile("b=2\na=1\n", projectDir.resolve("src/main/resources/Messages.properties"));
+        copyProject(projectDir, otherProjectDir);
+        // When
+        BuildResult first = build("--build-cache", SPOTLESS_JAVA, SPOTLESS_PROPERTIES);
+        BuildResult second =
+                build(otherProjectDir, "--build-cache", SPOTLESS_JAVA, SPOTLESS_PROPERTIES);
+        // Then
+        assertTaskSuccess(first, SPOTLESS_JAVA);
+        assertTaskSuccess(first, SPOTLESS_PROPERTIES);
+        assertTaskFromCache(second, SPOTLESS_JAVA);
+        assertTaskFromCache(second, SPOTLESS_PROPERTIES);
+    }
+
+    private static void copyProject(Path source, Path target) throws Exception {
+        List<Path> files;
+        try (var paths = Files.walk(source)) {
+            files = paths.filter(Files::isRegularFile).toList();
+        }
+        for (Path file : files) {
+            createFile(Files.readString(file), target.resolve(source.relativize(file)));
+        }
+    }
+}
@@ -82,4 +82,50 @@ class FormatPropertiesStepFunctionalTest extends FunctionalTest {
                 .containsEntry("multiline.value", "value1 value2 value3")
                 .containsEntry("leading.escaped.space", " value");
     }
+
+    @Test
+    void shouldFormatPropertiesWithStreamingEngine() throws Exception {
+        // Given
+        Path originalBuildFilePath =
+                Path.of(getClass().getResource("spotlessPropertiesStreaming.gradle.kts").toURI());
+        Path originalUnformattedPropertiesPath =
+                Path.of(getClass().getResource("unformatted.properties").toURI());
+        Path copiedUnformattedPropertiesPath = projectDir.resolve("unformatted.properties");
+        Path formattedPropertiesPath =
+                Path.of(getClass().getResource("formatted.properties").toURI());
+        String spotlessPropertiesApplyTaskName = ":spotlessPropertiesStreamingApply";
+
+        Files.copy(originalUnformattedPropertiesPath, copiedUnformattedPropertiesPath);
+        Files.copy(originalBuildFilePath, projectDir.resolve("build.gradle.kts"));
+        // When
+        BuildResult result = build(spotlessPropertiesApplyTaskName);
+        // Then
+        assertTaskSuccess(result, spotlessPropertiesApplyTaskName);
+        assertThat(copiedUnformattedPropertiesPath).hasSameBinaryContentAs(formattedPropertiesPath);
+    }
+
+    @Test
+    void shouldFormatPropertiesOfAllProjects() throws Exception {
+        // Given
+        createFile("include(\"sub1\", \"sub2\")", projectDir.resolve("settings.gradle.kts"));
+        String buildFile =
+                """
+                plugins {
+                    id("com.diffplug.spotless")
+                    id("org.zaproxy.common")
+                }""";
+        createFile(buildFile, projectDir.resolve("sub1/build.gradle.kts"));
+        createFile(buildFile, projectDir.resolve("sub2/build.gradle.kts"));
+        Path properties1 = projectDir.resolve("sub1/Messages.properties");
+        createFile("b=2\na=1\n", properties1);
+        Path properties2 = projectDir.resolve("sub2/Messages.properties");
+        createFile("d=4\nc=3\n", properties2);
+        // When
+        BuildResult result = build(":sub1:spotlessApply", ":sub2:spotlessApply");
+        // Then
+        assertTaskSuccess(result, ":sub1:spotlessApply");
+        assertTaskSuccess(result, ":sub2:spotlessApply");
+        assertThat(properties1).hasContent("a = 1\nb = 2\n");
+        assertThat(properties2).hasContent("c = 3\nd = 4\n");
+    }
 }
@@ -21,6 +21,7 @@ package org.zaproxy.gradle.common.spotless;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.file.Files;
 import org.gradle.testkit.runner.BuildResult;
 import org.junit.jupiter.api.Test;
 import org.zaproxy.gradle.common.JavaFunctionalTest;
@@ -28,6 +29,7 @@ import org.zaproxy.gradle.common.JavaFunctionalTest;
 class JavaLicenseFunctionalTest extends JavaFunctionalTest {
 
     private static final String SPOTLESS_APPLY = ":spotlessApply";
+    private static final String SPOTLESS_CHECK = ":spotlessCheck";
 
     @Test
     void shouldNotFormatIfJavaPluginNotApplied() throws Exception {
@@ -57,4 +59,21 @@ class JavaLicenseFunctionalTest extends JavaFunctionalTest {
                 .contains("*/")
                 .contains(CONTENT_JAVA_FILE);
     }
+
+    @Test
+    void shouldKeepJavaLicenseWithOtherYears() throws Exception {
+        // Given
+        buildFileWithJavaPlugin();
+        var javaFile = createJavaFile();
+        build(SPOTLESS_APPLY);
+        String content =
+                Files.readString(javaFile)
+                        .replaceFirst("Copyright [0-9]{4} ", "Copyright 2015-2019 ");
+        Files.writeString(javaFile, content);
+        // When
+        BuildResult result = build(SPOTLESS_CHECK);
+        // Then
+        assertTaskSuccess(result, SPOTLESS_CHECK);
+        assertThat(javaFile).content().isEqualTo(content).contains("Copyright 2015-2019 ");
+    }
 }
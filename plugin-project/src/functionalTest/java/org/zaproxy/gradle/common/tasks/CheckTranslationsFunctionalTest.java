@@ -0,0 +1,102 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.UnexpectedBuildFailure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.gradle.common.FunctionalTest;
+
+class CheckTranslationsFunctionalTest extends FunctionalTest {
+
+    private static final String CHECK_TRANSLATIONS = ":checkTranslations";
+
+    private Path report;
+
+    @BeforeEach
+    void setup() throws Exception {
+        buildFile(
+                """
+                plugins {
+                    id("org.zaproxy.common")
+                }""");
+        report = projectDir.resolve("build/reports/properties/checkTranslations.sarif");
+    }
+
+    @Test
+    void shouldPassIfTranslationsConsistent() throws Exception {
+        // Given
+        createFile("a = {0} of {1}\nb = 2\n", projectDir.resolve("a/Messages.properties"));
+        createFile("b = 2\na = {1} de {0}\n", projectDir.resolve("a/Messages_pt_PT.properties"));
+        createFile("a = {0} / {1}\nb = 2\n", projectDir.resolve("a/Messages_fr_FR.properties"));
+        // When
+        BuildResult result = build(CHECK_TRANSLATIONS);
+        // Then
+        assertTaskSuccess(result, CHECK_TRANSLATIONS);
+        assertThat(Files.readString(report)).contains("\"results\":[\n\n]");
+    }
+
+    @Test
+    void shouldNotCheckOtherFilesAsTranslations() throws Exception {
+        // Given
+        createFile("a = {0}\nb = 2\n", projectDir.resolve("a/Messages.properties"));
+        createFile("x = 3\n", projectDir.resolve("a/Messages_extra.properties"));
+        createFile("y = 4\n", projectDir.resolve("a/Messages_foo_bar.properties"));
+        createFile("a = {0}\nb = 2\n", projectDir.resolve("a/Messages_es_419.properties"));
+        // When
+        BuildResult result = build(CHECK_TRANSLATIONS);
+        // Then
+        assertTaskSuccess(result, CHECK_TRANSLATIONS);
+        assertThat(Files.readString(report)).contains("\"results\":[\n\n]");
+    }
+
+    @Test
+    void shouldReportAllTranslationsAndFailOnce() throws Exception {
+        // Given
+        createFile("a = {0}\nb = 2\n", projectDir.resolve("a/Messages.properties"));
+        createFile("a = {1}\nb = 2\n", projectDir.resolve("a/Messages_pt_PT.properties"));
+        createFile("a = {0}\nx = 3\n", projectDir.resolve("a/Messages_fr_FR.properties"));
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(CHECK_TRANSLATIONS));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, CHECK_TRANSLATIONS);
+        assertThat(result.getOutput())
+                .contains("3 invalid properties found")
+                .contains("a/Messages_fr_FR.properties:2: Property missing from base file: x")
+                .contains("a/Messages_fr_FR.properties: Property missing from translation: b")
+                .contains(
+                        "a/Messages_pt_PT.properties:1: Placeholders different from base file: a");
+        assertThat(Files.readString(report))
+                .contains(
+                        "{\"ruleId\":\"MISSING_IN_TRANSLATION\",\"level\":\"error\","
+                                + "\"message\":{\"text\":\"Property missing from translation: b\"},"
+                                + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":"
+                                + "{\"uri\":\"a/Messages_fr_FR.properties\","
+                                + "\"uriBaseId\":\"%SRCROOT%\"}}}]}");
+    }
+}
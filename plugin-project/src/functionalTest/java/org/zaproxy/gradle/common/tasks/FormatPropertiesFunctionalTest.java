@@ -0,0 +1,209 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.UnexpectedBuildFailure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.gradle.common.FunctionalTest;
+
+class FormatPropertiesFunctionalTest extends FunctionalTest {
+
+    private static final String FORMAT_PROPERTIES = ":formatProperties";
+    private static final String CHECK_PROPERTIES_FORMAT = ":checkPropertiesFormat";
+
+    @BeforeEach
+    void setup() throws Exception {
+        buildFile(
+                """
+                plugins {
+                    id("org.zaproxy.common")
+                }
+
+                tasks.withType<org.zaproxy.gradle.common.tasks.FormatProperties>().configureEach {
+                    partitionSize.set(2)
+                }""");
+    }
+
+    @Test
+    void shouldFormatPropertiesFilesInPartitions() throws Exception {
+        // Given
+        Path file1 = properties("src/main/resources/a/Messages.properties", "b=2\na=1\n");
+        Path file2 = properties("src/main/resources/b/Messages.properties", "a = 1\n");
+        Path file3 = properties("src/main/resources/c/Messages.properties", "d:4\r\nc 3\r\n");
+        // When
+        BuildResult result = build(FORMAT_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, FORMAT_PROPERTIES);
+        assertThat(file1).hasContent("a = 1\nb = 2\n");
+        assertThat(file2).hasContent("a = 1\n");
+        assertThat(file3).hasContent("c = 3\nd = 4\n");
+        assertThat(projectDir.resolve("build/reports/properties/formatProperties.txt"))
+                .hasContent(
+                        """
+                        FORMATTED\tsrc/main/resources/a/Messages.properties
+                        UNCHANGED\tsrc/main/resources/b/Messages.properties
+                        FORMATTED\tsrc/main/resources/c/Messages.properties
+                        """);
+    }
+
+    @Test
+    void shouldNotProcessExcludedFiles() throws Exception {
+        // Given
+        Path included = properties("Messages.properties", "b=2\na=1\n");
+        Path locale = properties("Messages_pt_PT.properties", "b=2\na=1\n");
+        Path gradle = properties("gradle.properties", "b=2\na=1\n");
+        Path build = properties("build/Messages.properties", "b=2\na=1\n");
+        // When
+        BuildResult result = build(FORMAT_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, FORMAT_PROPERTIES);
+        assertThat(included).hasContent("a = 1\nb = 2\n");
+        assertThat(locale).hasContent("b=2\na=1\n");
+        assertThat(gradle).hasContent("b=2\na=1\n");
+        assertThat(build).hasContent("b=2\na=1\n");
+    }
+
+    @Test
+    void shouldNotProcessFilesOfNestedProjects() throws Exception {
+        // Given
+        createFile("", projectDir.resolve("sub/build.gradle.kts"));
+        Path nested = properties("sub/Messages.properties", "b=2\na=1\n");
+        createFile("", projectDir.resolve("src/test/resources/fixture/example.gradle.kts"));
+        Path fixture = properties("src/test/resources/fixture/Messages.properties", "b=2\na=1\n");
+        // When
+        BuildResult result = build(FORMAT_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, FORMAT_PROPERTIES);
+        assertThat(nested).hasContent("b=2\na=1\n");
+        assertThat(fixture).hasContent("a = 1\nb = 2\n");
+    }
+
+    @Test
+    void shouldPassCheckIfFormatted() throws Exception {
+        // Given
+        properties("a/Messages.properties", "a = 1\n");
+        properties("b/Messages.properties", "b = 2\n");
+        // When
+        BuildResult result = build(CHECK_PROPERTIES_FORMAT);
+        // Then
+        assertTaskSuccess(result, CHECK_PROPERTIES_FORMAT);
+    }
+
+    @Test
+    void shouldFailCheckIfNotFormattedOrInvalid() throws Exception {
+        // Given
+        Path file1 = properties("a/Messages.properties", "b=2\na=1\n");
+        properties("b/Messages.properties", "b = 2\n");
+        properties("c/Messages.properties", "a = 1\na = 2\n");
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(CHECK_PROPERTIES_FORMAT));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, CHECK_PROPERTIES_FORMAT);
+        assertThat(result.getOutput())
+                .contains("2 properties file(s) not formatted or invalid")
+                .contains("NOT_FORMATTED\ta/Messages.properties")
+                .contains("INVALID\tc/Messages.properties");
+        assertThat(file1).hasContent("b=2\na=1\n");
+    }
+
+    @Test
+    void shouldBeUpToDateIfNoChanges() throws Exception {
+        // Given
+        properties("a/Messages.properties", "a = 1\n");
+        build(CHECK_PROPERTIES_FORMAT);
+        // When
+        BuildResult result = build(CHECK_PROPERTIES_FORMAT);
+        // Then
+        assertTaskUpToDate(result, CHECK_PROPERTIES_FORMAT);
+    }
+
+    @Test
+    void shouldOnlyProcessChangedFilesAndKeepStatusOfOthers() throws Exception {
+        // Given
+        properties("a/Messages.properties", "a = 1\n");
+        properties("b/Messages.properties", "b = 2\n");
+        Path file3 = properties("c/Messages.properties", "c = 3\n");
+        build(CHECK_PROPERTIES_FORMAT);
+        properties("b/Messages.properties", "b=2\n");
+        properties("d/Messages.properties", "d = 4\n");
+        Files.delete(file3);
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(CHECK_PROPERTIES_FORMAT));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, CHECK_PROPERTIES_FORMAT);
+        assertThat(result.getOutput())
+                .contains("1 properties file(s) not formatted or invalid")
+                .contains("NOT_FORMATTED\tb/Messages.properties");
+        assertThat(projectDir.resolve("build/reports/properties/checkPropertiesFormat.txt"))
+                .hasContent(
+                        """
+                        UNCHANGED\ta/Messages.properties
+                        NOT_FORMATTED\tb/Messages.properties
+                        UNCHANGED\td/Messages.properties
+                        """);
+    }
+
+    @Test
+    void shouldFormatLargeFilesWithBoundedMemory() throws Exception {
+        // Given
+        var buildFile = projectDir.resolve("build.gradle.kts");
+        Files.writeString(
+                buildFile,
+                Files.readString(buildFile)
+                        + """
+
+                        tasks.formatProperties {
+                            largeFileThreshold.set(8L)
+                        }""");
+        Path large = properties("a/Messages.properties", "# h\n\nc=3\nb=2\r\n# a\na=1\n");
+        Path invalid = properties("b/Messages.properties", "b = 1\na = 1\nb = 2\n");
+        Path small = properties("c/Messages.properties", "a=1\n");
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(FORMAT_PROPERTIES));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, FORMAT_PROPERTIES);
+        assertThat(result.getOutput())
+                .contains("INVALID\tb/Messages.properties\tInvalid properties");
+        assertThat(large).hasContent("# h\n\n# a\na = 1\nb = 2\nc = 3\n");
+        assertThat(invalid).hasContent("b = 1\na = 1\nb = 2\n");
+        assertThat(small).hasContent("a = 1\n");
+        assertThat(projectDir.resolve("build/tmp/formatProperties"))
+                .isDirectoryNotContaining("glob:**/*.{bin,properties}");
+    }
+
+    private Path properties(String path, String content) throws Exception {
+        Path file = projectDir.resolve(path);
+        createFile(content, file);
+        return file;
+    }
+}
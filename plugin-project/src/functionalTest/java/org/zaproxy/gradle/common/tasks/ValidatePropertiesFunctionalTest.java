@@ -0,0 +1,139 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.UnexpectedBuildFailure;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.gradle.common.FunctionalTest;
+
+class ValidatePropertiesFunctionalTest extends FunctionalTest {
+
+    private static final String VALIDATE_PROPERTIES = ":validateProperties";
+
+    private Path report;
+
+    @BeforeEach
+    void setup() throws Exception {
+        buildFile(
+                """
+                plugins {
+                    id("org.zaproxy.common")
+                }""");
+        report = projectDir.resolve("build/reports/properties/validateProperties.sarif");
+    }
+
+    @Test
+    void shouldPassIfAllValid() throws Exception {
+        // Given
+        createFile("b=2\na=1\n", projectDir.resolve("a/Messages.properties"));
+        // When
+        BuildResult result = build(VALIDATE_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, VALIDATE_PROPERTIES);
+        assertThat(Files.readString(report)).contains("\"results\":[\n\n]");
+    }
+
+    @Test
+    void shouldReportAllFindingsAndFailOnce() throws Exception {
+        // Given
+        createFile("a = 1\nb = 2\na = 3\n", projectDir.resolve("a/Messages.properties"));
+        createFile("c = 1\n d = 2\n", projectDir.resolve("b/Messages.properties"));
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(VALIDATE_PROPERTIES));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, VALIDATE_PROPERTIES);
+        assertThat(result.getOutput())
+                .contains("2 invalid properties found")
+                .contains("a/Messages.properties:3: Duplicate property: a")
+                .contains("b/Messages.properties:2: Leading space in property name: d");
+        assertThat(Files.readString(report))
+                .contains(
+                        "{\"ruleId\":\"DUPLICATE\",\"level\":\"error\","
+                                + "\"message\":{\"text\":\"Duplicate property: a\"},"
+                                + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":"
+                                + "{\"uri\":\"a/Messages.properties\",\"uriBaseId\":\"%SRCROOT%\"},"
+                                + "\"region\":{\"startLine\":3}}}]}")
+                .contains(
+                        "{\"ruleId\":\"LEADING_SPACE_IN_NAME\",\"level\":\"error\","
+                                + "\"message\":{\"text\":\"Leading space in property name: d\"},"
+                                + "\"locations\":[{\"physicalLocation\":{\"artifactLocation\":"
+                                + "{\"uri\":\"b/Messages.properties\",\"uriBaseId\":\"%SRCROOT%\"},"
+                                + "\"region\":{\"startLine\":2}}}]}");
+    }
+
+    @Test
+    void shouldReportTranslationKeysMissingFromBase() throws Exception {
+        // Given
+        createFile("a = 1\n", projectDir.resolve("a/Messages.properties"));
+        createFile("a = 1\nx = 2\n", projectDir.resolve("a/Messages_pt_PT.properties"));
+        // When
+        UnexpectedBuildFailure ex =
+                assertThrows(UnexpectedBuildFailure.class, () -> build(VALIDATE_PROPERTIES));
+        // Then
+        BuildResult result = ex.getBuildResult();
+        assertTaskFailed(result, VALIDATE_PROPERTIES);
+        assertThat(result.getOutput())
+                .contains("1 invalid properties found")
+                .contains("a/Messages_pt_PT.properties:2: Property missing from base file: x");
+    }
+
+    @Test
+    void shouldNotValidateOtherFilesAsTranslations() throws Exception {
+        // Given
+        createFile("a = 1\n", projectDir.resolve("a/Messages.properties"));
+        createFile("x = 2\n", projectDir.resolve("a/Messages_extra.properties"));
+        createFile("y = 3\n", projectDir.resolve("a/Messages_foo_bar.properties"));
+        // When
+        BuildResult result = build(VALIDATE_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, VALIDATE_PROPERTIES);
+    }
+
+    @Test
+    void shouldReportOnlySelectedRules() throws Exception {
+        // Given
+        buildFile(
+                """
+                import org.zaproxy.gradle.common.spotless.PropertiesValidator.Rule
+
+                plugins {
+                    id("org.zaproxy.common")
+                }
+
+                tasks.validateProperties {
+                    rules.set(setOf(Rule.DUPLICATE))
+                }""");
+        createFile("a = 1 \nb = {0\n", projectDir.resolve("a/Messages.properties"));
+        // When
+        BuildResult result = build(VALIDATE_PROPERTIES);
+        // Then
+        assertTaskSuccess(result, VALIDATE_PROPERTIES);
+        assertThat(Files.readString(report)).contains("\"results\":[\n\n]");
+    }
+}
@@ -0,0 +1,13 @@
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep
+
+plugins {
+    id("com.diffplug.spotless")
+    id("org.zaproxy.common")
+}
+
+spotless {
+    format("propertiesStreaming") {
+        target("**/*.properties")
+        addStep(FormatPropertiesStep.create(FormatPropertiesStep.Engine.STREAMING))
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+/**
+ * Benchmarks the formatting of properties files, with the different engines.
+ *
+ * <p>The {@code Pooled} benchmarks format the same inputs with a {@link FormattingContext}, as
+ * pooled by the {@link ReusablePropertiesFormatter}, while the others create the formatting objects
+ * for each content. Both always format, also the {@code SORTED} input, the allocation rate reported
+ * by the {@code gc} profiler (e.g. {@code gc.alloc.rate.norm}) shows the objects no longer created
+ * for each content.
+ *
+ * <p>The {@code cacheHit} benchmark gets the formatted input from the {@link
+ * PropertiesFormatCache}, to compare with the {@code Pooled} benchmarks, the contents shorter than
+ * {@link PropertiesFormatCache#MIN_CONTENT_LENGTH} are not cached.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormatPropertiesStepBenchmark {
+
+    @Param({"SMALL", "LARGE", "COMMENTED", "MULTILINE", "SORTED"})
+    public Input input;
+
+    private String content;
+    private char[] chars;
+    private FormattingContext commonsConfigurationContext;
+    private FormattingContext streamingContext;
+    private Path cacheDir;
+    private PropertiesFormatCache cache;
+
+    @Setup
+    public void setUp() throws Exception {
+        content = input.create();
+        chars = content.toCharArray();
+        commonsConfigurationContext = new FormattingContext(Engine.COMMONS_CONFIGURATION);
+        streamingContext = new FormattingContext(Engine.STREAMING);
+        cacheDir = Files.createTempDirectory("properties-format-cache");
+        cache = new PropertiesFormatCache(cacheDir, Engine.COMMONS_CONFIGURATION);
+        cache.put(cache.entry(content), content, commonsConfigurationContext.format(content));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public String commonsConfiguration() throws Exception {
+        return FormatPropertiesStep.format(content);
+    }
+
+    @Benchmark
+    public String streaming() {
+        return PropertiesFormatter.format(content);
+    }
+
+    @Benchmark
+    public String commonsConfigurationPooled() throws Exception {
+        return commonsConfigurationContext.format(content);
+    }
+
+    @Benchmark
+    public String streamingPooled() throws Exception {
+        return streamingContext.format(content);
+    }
+
+    @Benchmark
+    public String cacheHit() {
+        return cache.get(cache.entry(content), content);
+    }
+
+    @Benchmark
+    public boolean isFormatted() {
+        return PropertiesFormatter.isFormatted(content);
+    }
+
+    @Benchmark
+    public List<PropertiesValidator.Finding> validate() {
+        return PropertiesValidator.validate(chars, 0, chars.length);
+    }
+
+    /** The contents being formatted. */
+    public enum Input {
+        /** A few unsorted properties, like most add-on message files. */
+        SMALL {
+            @Override
+            String create() {
+                return createShuffled(50, "", "%s = Value of %s with {0} arg\n");
+            }
+        },
+
+        /** Many unsorted properties. */
+        LARGE {
+            @Override
+            String create() {
+                return createShuffled(20_000, "", "%s = Value of %s with {0} arg\n");
+            }
+        },
+
+        /** Unsorted properties, each with a comment block. */
+        COMMENTED {
+            @Override
+            String create() {
+                return createShuffled(
+                        5_000,
+                        "\n# Comment of the property\n#   with multiple lines\n! and other char\n",
+                        "%s = Value of %s\n");
+            }
+        },
+
+        /** Unsorted properties, each with a value split in multiple lines. */
+        MULTILINE {
+            @Override
+            String create() {
+                return createShuffled(
+                        5_000, "", "%s: Value of \\\n    %s split \\\n    in multiple \\\n lines\n");
+            }
+        },
+
+        /** Many properties already formatted. */
+        SORTED {
+            @Override
+            String create() {
+                return PropertiesFormatter.format(LARGE.create());
+            }
+        };
+
+        abstract String create();
+
+        private static String createShuffled(int count, String comment, String property) {
+            List<String> properties = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String key = String.format("addon.%05d.label", i);
+                properties.add(comment + String.format(property, key, key));
+            }
+            Collections.shuffle(properties, new Random(count));
+            return String.join("", properties);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import com.diffplug.spotless.FormatterStep;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.gradle.api.GradleException;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.spotless.LicenseHeaderStep;
+
+/**
+ * A build service shared by all the projects, with the state that is the same for all of them.
+ *
+ * <p>The state is created lazily, once per build, so that the memory and the time to configure the
+ * projects do not grow with the number of projects. For example, the license header and the
+ * Spotless steps, which in turn create their formatters once.
+ */
+public abstract class CommonBuildService implements BuildService<BuildServiceParameters.None> {
+
+    static final String NAME = "zapCommon";
+
+    private final Map<PropertiesStepKey, FormatterStep> propertiesSteps = new ConcurrentHashMap<>();
+
+    private String license;
+
+    private FormatterStep licenseHeaderStep;
+
+    /**
+     * Registers the service, if not already registered.
+     *
+     * @param gradle the build.
+     * @return the provider of the service.
+     */
+    static Provider<CommonBuildService> register(Gradle gradle) {
+        return gradle.getSharedServices()
+                .registerIfAbsent(NAME, CommonBuildService.class, spec -> {});
+    }
+
+    /**
+     * Gets the license header of the Java files.
+     *
+     * @return the license header, never {@code null}.
+     * @throws GradleException if an error occurred while reading the license.
+     */
+    public synchronized String getLicense() {
+        if (license == null) {
+            license = readLicense();
+        }
+        return license;
+    }
+
+    /**
+     * Gets the properties step with the given settings, creating it if not yet created.
+     *
+     * @param engine the engine that formats the properties.
+     * @param cacheDir the directory of the persistent cache, or {@code null} to not use a cache.
+     * @return the step, never {@code null}.
+     */
+    FormatterStep propertiesStep(Engine engine, File cacheDir) {
+        return propertiesSteps.computeIfAbsent(
+                new PropertiesStepKey(engine, cacheDir),
+                key -> FormatPropertiesStep.create(key.engine(), key.cacheDir()));
+    }
+
+    /**
+     * Gets the license header step of the Java files, creating it if not yet created.
+     *
+     * @return the step, never {@code null}.
+     * @throws GradleException if an error occurred while reading the license.
+     */
+    synchronized FormatterStep licenseHeaderStep() {
+        if (licenseHeaderStep == null) {
+            licenseHeaderStep = LicenseHeaderStep.create(getLicense());
+        }
+        return licenseHeaderStep;
+    }
+
+    private static String readLicense() {
+        try (var is = CommonBuildService.class.getResourceAsStream("spotless/license.java")) {
+            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new GradleException("Failed to read the license file.", e);
+        }
+    }
+
+    /** The key of the properties step, shared by all the projects with the same settings. */
+    private record PropertiesStepKey(Engine engine, File cacheDir) {}
+}
@@ -0,0 +1,51 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import org.gradle.api.Action;
+import org.gradle.api.tasks.Nested;
+
+/**
+ * The extension of the plugin, named {@value #NAME}.
+ *
+ * @since 0.6.0
+ */
+public abstract class CommonExtension {
+
+    /** The name of the extension. */
+    public static final String NAME = "zapCommon";
+
+    /**
+     * Gets the settings of the compilation of the Java sources.
+     *
+     * @return the settings, never {@code null}.
+     */
+    @Nested
+    public abstract JavaCompileSettings getJavaCompile();
+
+    /**
+     * Configures the settings of the compilation of the Java sources.
+     *
+     * @param action the action that configures the settings.
+     */
+    public void javaCompile(Action<? super JavaCompileSettings> action) {
+        action.execute(getJavaCompile());
+    }
+}
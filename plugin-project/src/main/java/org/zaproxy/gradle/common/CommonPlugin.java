@@ -20,15 +20,34 @@
 package org.zaproxy.gradle.common;
 
 import com.diffplug.gradle.spotless.SpotlessExtension;
-import java.io.IOException;
+import com.diffplug.spotless.FormatterStep;
+import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import javax.inject.Inject;
+import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.Plugin;
 import org.gradle.api.Project;
-import org.gradle.api.ProjectConfigurationException;
+import org.gradle.api.file.ConfigurableFileTree;
+import org.gradle.api.file.FileTreeElement;
+import org.gradle.api.file.RegularFile;
 import org.gradle.api.plugins.JavaPlugin;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.specs.Spec;
+import org.gradle.api.tasks.SourceSet;
+import org.gradle.api.tasks.SourceSetContainer;
 import org.gradle.api.tasks.compile.JavaCompile;
-import org.zaproxy.gradle.common.spotless.FormatPropertiesStep;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+import org.zaproxy.gradle.common.JavaCompileSettings.Profile;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.tasks.CheckTranslations;
+import org.zaproxy.gradle.common.tasks.FormatProperties;
+import org.zaproxy.gradle.common.tasks.JavaLint;
+import org.zaproxy.gradle.common.tasks.ValidateProperties;
 
 /** A plugin for common ZAP build-related configs and tasks. */
 public class CommonPlugin implements Plugin<Project> {
@@ -36,55 +55,359 @@ public class CommonPlugin implements Plugin<Project> {
     private static final List<String> JAVA_COMPILER_ARGS =
             List.of("-Xlint:all", "-Werror", "-parameters");
 
+    private static final List<String> LINT_JAVA_COMPILER_ARGS = List.of("-Xlint:all", "-Werror");
+
     private static final String GJF_VERSION = "1.25.2";
 
+    private static final String SPOTLESS_PLUGIN_ID = "com.diffplug.spotless";
+
+    /** The Gradle property that allows to enable the cache of the formatted properties files. */
+    static final String PROPERTIES_CACHE_PROPERTY = "org.zaproxy.common.properties.cache";
+
+    private static final String PROPERTIES_CACHE_DIR = "caches/zap-common/properties-format";
+
+    private static final String PROPERTIES_TARGET = "**/*.properties";
+
+    private static final List<String> PROPERTIES_TARGET_EXCLUDES =
+            List.of(
+                    "**/Messages_*_*.properties",
+                    "**/gradle.properties",
+                    "**/gradle-wrapper.properties");
+
+    private static final List<String> VALIDATE_PROPERTIES_TARGET_EXCLUDES =
+            List.of("**/gradle.properties", "**/gradle-wrapper.properties");
+
+    private static final Spec<FileTreeElement> NESTED_PROJECTS = new NestedProjectSpec();
+
+    static final String FORMAT_PROPERTIES_TASK_NAME = "formatProperties";
+    static final String CHECK_PROPERTIES_FORMAT_TASK_NAME = "checkPropertiesFormat";
+    static final String VALIDATE_PROPERTIES_TASK_NAME = "validateProperties";
+    static final String CHECK_TRANSLATIONS_TASK_NAME = "checkTranslations";
+
+    private final BuildEventsListenerRegistry buildEvents;
+
+    @Inject
+    public CommonPlugin(BuildEventsListenerRegistry buildEvents) {
+        this.buildEvents = buildEvents;
+    }
+
     @Override
     public void apply(Project target) {
-        var spotlessExtension = target.getExtensions().findByType(SpotlessExtension.class);
-        if (spotlessExtension != null) {
-            spotlessExtension.format(
-                    "properties",
-                    format -> {
-                        format.target("**/*.properties");
-                        format.targetExclude(
-                                "**/Messages_*_*.properties",
-                                "**/gradle.properties",
-                                "**/gradle-wrapper.properties");
-                        format.addStep(FormatPropertiesStep.create());
-                    });
+        var profile = ProjectProfile.create(target);
+        profile.time(ProjectProfile.APPLY, () -> apply(target, profile));
+        profile.count("propertiesFiles", () -> propertiesFiles(target).getFiles().size());
+    }
+
+    private void apply(Project target, ProjectProfile profile) {
+        Provider<CommonBuildService> buildService = CommonBuildService.register(target.getGradle());
+
+        target.getPlugins()
+                .withId(
+                        SPOTLESS_PLUGIN_ID,
+                        sp ->
+                                profile.time(
+                                        "configureSpotlessProperties",
+                                        () ->
+                                                configureSpotlessProperties(
+                                                        target, buildService.get())));
+
+        profile.time("registerPropertiesTasks", () -> registerPropertiesTasks(target));
+
+        var extension = target.getExtensions().create(CommonExtension.NAME, CommonExtension.class);
+        JavaCompileSettings javaCompileSettings = extension.getJavaCompile();
+        javaCompileSettings
+                .getProfile()
+                .convention(
+                        target.getProviders()
+                                .gradleProperty(JavaCompileSettings.PROFILE_PROPERTY)
+                                .map(CommonPlugin::parseJavaCompileProfile)
+                                .orElse(Profile.DEFAULT));
+        javaCompileSettings
+                .getForkMemoryMaximumSize()
+                .convention(JavaCompileSettings.DEFAULT_FORK_MEMORY_MAXIMUM_SIZE);
+        javaCompileSettings
+                .getMetrics()
+                .convention(
+                        target.getProviders()
+                                .gradleProperty(JavaCompileSettings.METRICS_PROPERTY)
+                                .map(Boolean::parseBoolean)
+                                .orElse(false));
+
+        Provider<FormatterStep> licenseHeaderStep =
+                buildService.map(CommonBuildService::licenseHeaderStep);
+        target.getPlugins()
+                .withType(
+                        JavaPlugin.class,
+                        jp ->
+                                profile.time(
+                                        "configureJavaPlugin",
+                                        () ->
+                                                configureJavaPlugin(
+                                                        target,
+                                                        licenseHeaderStep,
+                                                        javaCompileSettings,
+                                                        profile)));
+    }
+
+    private static void configureSpotlessProperties(
+            Project target, CommonBuildService buildService) {
+        target.getExtensions()
+                .getByType(SpotlessExtension.class)
+                .format(
+                        "properties",
+                        format -> {
+                            format.target(PROPERTIES_TARGET);
+                            format.targetExclude(PROPERTIES_TARGET_EXCLUDES.toArray());
+                            format.addStep(propertiesStep(target, buildService));
+                        });
+    }
+
+    private static void registerPropertiesTasks(Project target) {
+        var tasks = target.getTasks();
+        tasks.register(
+                FORMAT_PROPERTIES_TASK_NAME,
+                FormatProperties.class,
+                task -> {
+                    task.setDescription("Formats the properties files, in parallel.");
+                    configurePropertiesTask(target, task);
+                });
+        tasks.register(
+                CHECK_PROPERTIES_FORMAT_TASK_NAME,
+                FormatProperties.class,
+                task -> {
+                    task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+                    task.setDescription("Checks that the properties files are formatted.");
+                    task.getCheck().set(true);
+                    configurePropertiesTask(target, task);
+                });
+        tasks.register(
+                VALIDATE_PROPERTIES_TASK_NAME,
+                ValidateProperties.class,
+                task -> {
+                    task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+                    task.setDescription("Validates the properties files, reporting all findings.");
+                    task.getSource()
+                            .from(propertiesFiles(target, VALIDATE_PROPERTIES_TARGET_EXCLUDES));
+                    task.getBaseDirectory().set(target.getLayout().getProjectDirectory());
+                    task.getReport().set(propertiesReport(target, task.getName() + ".sarif"));
+                });
+        tasks.register(
+                CHECK_TRANSLATIONS_TASK_NAME,
+                CheckTranslations.class,
+                task -> {
+                    task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+                    task.setDescription(
+                            "Checks that the translations are consistent with their base files.");
+                    task.getSource()
+                            .from(propertiesFiles(target, VALIDATE_PROPERTIES_TARGET_EXCLUDES));
+                    task.getBaseDirectory().set(target.getLayout().getProjectDirectory());
+                    task.getMaxParallelism()
+                            .set(target.getGradle().getStartParameter().getMaxWorkerCount());
+                    task.getReport().set(propertiesReport(target, task.getName() + ".sarif"));
+                });
+    }
+
+    private static void configurePropertiesTask(Project target, FormatProperties task) {
+        task.getSource().from(propertiesFiles(target));
+        task.getBaseDirectory().set(target.getLayout().getProjectDirectory());
+        task.getReport().set(propertiesReport(target, task.getName() + ".txt"));
+    }
+
+    private static ConfigurableFileTree propertiesFiles(Project target) {
+        return propertiesFiles(target, PROPERTIES_TARGET_EXCLUDES);
+    }
+
+    private static ConfigurableFileTree propertiesFiles(Project target, List<String> excludes) {
+        ConfigurableFileTree source = target.fileTree(target.getProjectDir());
+        source.include(PROPERTIES_TARGET);
+        source.exclude(excludes);
+        source.exclude(".gradle/", "build/");
+        source.exclude(NESTED_PROJECTS);
+        return source;
+    }
+
+    private static Provider<RegularFile> propertiesReport(Project target, String name) {
+        return target.getLayout().getBuildDirectory().file("reports/properties/" + name);
+    }
+
+    private static FormatterStep propertiesStep(Project target, CommonBuildService buildService) {
+        return buildService.propertiesStep(
+                Engine.COMMONS_CONFIGURATION, propertiesCacheDir(target));
+    }
+
+    private static File propertiesCacheDir(Project target) {
+        boolean enabled =
+                target.getProviders()
+                        .gradleProperty(PROPERTIES_CACHE_PROPERTY)
+                        .map(Boolean::parseBoolean)
+                        .getOrElse(false);
+        if (!enabled) {
+            return null;
         }
+        return new File(target.getGradle().getGradleUserHomeDir(), PROPERTIES_CACHE_DIR);
+    }
 
-        target.getPlugins().withType(JavaPlugin.class, jp -> configureJavaPlugin(target));
+    private static Profile parseJavaCompileProfile(String value) {
+        try {
+            return Profile.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidUserDataException(
+                    "Unknown Java compile profile "
+                            + value
+                            + " in "
+                            + JavaCompileSettings.PROFILE_PROPERTY
+                            + ", expected one of: "
+                            + Arrays.toString(Profile.values()),
+                    e);
+        }
     }
 
-    private static void configureJavaPlugin(Project target) {
+    private void configureJavaPlugin(
+            Project target,
+            Provider<FormatterStep> licenseHeaderStep,
+            JavaCompileSettings settings,
+            ProjectProfile profile) {
         target.getExtensions()
-                .configure(SpotlessExtension.class, CommonPlugin::configureSpotlessJava);
+                .configure(
+                        SpotlessExtension.class,
+                        ext ->
+                                profile.time(
+                                        "configureSpotlessJava",
+                                        () -> configureSpotlessJava(ext, licenseHeaderStep)));
 
         target.getTasks()
                 .withType(JavaCompile.class)
-                .configureEach(CommonPlugin::configureJavaCompile);
+                .configureEach(
+                        task ->
+                                profile.time(
+                                        "configureJavaCompile",
+                                        () -> configureJavaCompile(task)));
+
+        var sourceSets = target.getExtensions().getByType(SourceSetContainer.class);
+        target.afterEvaluate(
+                p -> {
+                    profile.time(
+                            "configureJavaCompileProfile",
+                            () -> configureJavaCompileProfile(target, sourceSets, settings));
+                    profile.time(
+                            "configureJavaCompileMetrics",
+                            () -> configureJavaCompileMetrics(target, settings));
+                });
     }
 
     private static void configureJavaCompile(JavaCompile task) {
         var options = task.getOptions();
         options.setEncoding(StandardCharsets.UTF_8.name());
-        options.setCompilerArgs(JAVA_COMPILER_ARGS);
+        options.setCompilerArgs(new ArrayList<>(JAVA_COMPILER_ARGS));
+    }
+
+    private static void configureJavaCompileProfile(
+            Project target, SourceSetContainer sourceSets, JavaCompileSettings settings) {
+        if (settings.getProfile().get() != Profile.PERFORMANCE) {
+            return;
+        }
+
+        String compilePolicy = settings.getCompilePolicy().getOrNull();
+        String forkMemoryMaximumSize = settings.getForkMemoryMaximumSize().get();
+        target.getTasks()
+                .withType(JavaCompile.class)
+                .configureEach(
+                        task -> {
+                            if (!(task instanceof JavaLint)) {
+                                configurePerformanceJavaCompile(
+                                        task, compilePolicy, forkMemoryMaximumSize);
+                            }
+                        });
+        sourceSets.all(sourceSet -> registerJavaLint(target, sourceSet));
     }
 
-    private static void configureSpotlessJava(SpotlessExtension ext) {
+    private static void configurePerformanceJavaCompile(
+            JavaCompile task, String compilePolicy, String forkMemoryMaximumSize) {
+        var options = task.getOptions();
+        List<String> args = new ArrayList<>(options.getCompilerArgs());
+        args.removeAll(LINT_JAVA_COMPILER_ARGS);
+        if (compilePolicy != null) {
+            args.add("-XDcompilePolicy=" + compilePolicy);
+        }
+        options.setCompilerArgs(args);
+        options.setFork(true);
+        options.getForkOptions().setMemoryMaximumSize(forkMemoryMaximumSize);
+    }
+
+    private void configureJavaCompileMetrics(Project target, JavaCompileSettings settings) {
+        if (!settings.getMetrics().get()) {
+            return;
+        }
+        Provider<JavaCompileMetrics> metrics =
+                JavaCompileMetrics.register(target.getGradle(), target.getRootDir(), buildEvents);
+        target.getTasks()
+                .withType(JavaCompile.class)
+                .configureEach(task -> JavaCompileMetrics.attach(task, metrics));
+    }
+
+    private static void registerJavaLint(Project target, SourceSet sourceSet) {
+        String name = sourceSet.getTaskName("lint", "Java");
+        var lintTask =
+                target.getTasks()
+                        .register(
+                                name,
+                                JavaLint.class,
+                                task -> configureJavaLint(target, sourceSet, task));
+        target.getTasks()
+                .named(LifecycleBasePlugin.CHECK_TASK_NAME)
+                .configure(task -> task.dependsOn(lintTask));
+    }
+
+    private static void configureJavaLint(Project target, SourceSet sourceSet, JavaLint task) {
+        task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+        task.setDescription(
+                "Verifies that the " + sourceSet.getName() + " Java sources have no warnings.");
+        task.setSource(sourceSet.getJava());
+        task.setClasspath(sourceSet.getCompileClasspath());
+        task.getOptions().setAnnotationProcessorPath(sourceSet.getAnnotationProcessorPath());
+        var dir = target.getLayout().getBuildDirectory().dir("tmp/" + task.getName());
+        task.getDestinationDirectory().set(dir.map(d -> d.dir("classes")));
+        task.getOptions().getGeneratedSourceOutputDirectory().set(dir.map(d -> d.dir("generated")));
+    }
+
+    private static void configureSpotlessJava(
+            SpotlessExtension ext, Provider<FormatterStep> licenseHeaderStep) {
         ext.java(
                 j -> {
-                    j.licenseHeader(readLicense());
+                    j.addStep(licenseHeaderStep.get());
                     j.googleJavaFormat(GJF_VERSION).aosp();
                 });
     }
 
-    private static String readLicense() {
-        try (var is = CommonPlugin.class.getResourceAsStream("spotless/license.java")) {
-            return new String(is.readAllBytes(), StandardCharsets.UTF_8);
-        } catch (IOException e) {
-            throw new ProjectConfigurationException("Failed to read the license file.", e);
+    /**
+     * Matches the directories of nested projects and builds, which have their own properties
+     * files.
+     *
+     * <p>Checks the file system instead of the child projects, which are not accessible with
+     * isolated projects. Only the build and settings files are checked, other Gradle scripts (for
+     * example, test fixtures) do not make a directory a project.
+     */
+    private static final class NestedProjectSpec implements Spec<FileTreeElement> {
+
+        private static final List<String> PROJECT_FILES =
+                List.of(
+                        "build.gradle.kts",
+                        "build.gradle",
+                        "settings.gradle.kts",
+                        "settings.gradle");
+
+        @Override
+        public boolean isSatisfiedBy(FileTreeElement element) {
+            if (!element.isDirectory()) {
+                return false;
+            }
+            File dir = element.getFile();
+            for (String name : PROJECT_FILES) {
+                if (new File(dir, name).isFile()) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 }
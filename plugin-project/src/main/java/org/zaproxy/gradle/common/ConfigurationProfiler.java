@@ -0,0 +1,221 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.zaproxy.gradle.common.internal.Json;
+
+/**
+ * A build service that records the time spent configuring the projects, by the plugin.
+ *
+ * <p>The times of the actions include the times of the actions they run, for example, the time of
+ * {@code apply} includes the time of the actions run when the plugin is applied. At the end of the
+ * build, the summary is logged and written to a JSON file.
+ */
+public abstract class ConfigurationProfiler
+        implements BuildService<ConfigurationProfiler.Parameters>, AutoCloseable {
+
+    private static final Logger LOGGER = Logging.getLogger(ConfigurationProfiler.class);
+
+    static final String NAME = "zapCommonConfigurationProfiler";
+
+    static final String REPORT_PATH = "build/reports/zap-common/configuration-profile.json";
+
+    /** The parameters of the service. */
+    public interface Parameters extends BuildServiceParameters {
+
+        RegularFileProperty getReport();
+    }
+
+    private final Map<String, ProjectData> projects = new TreeMap<>();
+
+    /**
+     * Registers the service, if not already registered.
+     *
+     * @param gradle the build.
+     * @param rootDir the root directory of the build, where the report is written.
+     * @return the provider of the service.
+     */
+    static Provider<ConfigurationProfiler> register(Gradle gradle, File rootDir) {
+        return gradle.getSharedServices()
+                .registerIfAbsent(
+                        NAME,
+                        ConfigurationProfiler.class,
+                        spec ->
+                                spec.getParameters()
+                                        .getReport()
+                                        .set(new File(rootDir, REPORT_PATH)));
+    }
+
+    /**
+     * Records the time of an action.
+     *
+     * @param project the path of the project.
+     * @param action the name of the action.
+     * @param nanos the time, in nanoseconds.
+     */
+    synchronized void recordTime(String project, String action, long nanos) {
+        Timing timing = projectData(project).timings.computeIfAbsent(action, k -> new Timing());
+        timing.count++;
+        timing.nanos += nanos;
+    }
+
+    /**
+     * Records a count, for example, the number of files matched.
+     *
+     * @param project the path of the project.
+     * @param name the name of the count.
+     * @param value the value of the count.
+     */
+    synchronized void recordCount(String project, String name, long value) {
+        projectData(project).counts.merge(name, value, Long::sum);
+    }
+
+    private ProjectData projectData(String project) {
+        return projects.computeIfAbsent(project, k -> new ProjectData());
+    }
+
+    @Override
+    public synchronized void close() {
+        if (projects.isEmpty()) {
+            return;
+        }
+
+        LOGGER.lifecycle(createSummary());
+
+        Path report = getParameters().getReport().get().getAsFile().toPath();
+        try {
+            Files.createDirectories(report.getParent());
+            Files.writeString(report, createJson(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write the configuration profile to {}", report, e);
+        }
+    }
+
+    private String createSummary() {
+        int projectWidth = "Project".length();
+        int actionWidth = "Action".length();
+        for (Map.Entry<String, ProjectData> project : projects.entrySet()) {
+            projectWidth = Math.max(projectWidth, project.getKey().length());
+            for (String action : project.getValue().timings.keySet()) {
+                actionWidth = Math.max(actionWidth, action.length());
+            }
+            for (String name : project.getValue().counts.keySet()) {
+                actionWidth = Math.max(actionWidth, name.length());
+            }
+        }
+
+        String format = "%-" + projectWidth + "s  %-" + actionWidth + "s  %10s  %6s%n";
+        var sb = new StringBuilder("Configuration profile of the ZAP common plugin:\n");
+        sb.append(String.format(Locale.ROOT, format, "Project", "Action", "Time (ms)", "Count"));
+        long totalNanos = 0;
+        for (Map.Entry<String, ProjectData> project : projects.entrySet()) {
+            String path = project.getKey();
+            for (Map.Entry<String, Timing> timing : project.getValue().timings.entrySet()) {
+                Timing value = timing.getValue();
+                sb.append(
+                        String.format(
+                                Locale.ROOT,
+                                format,
+                                path,
+                                timing.getKey(),
+                                toMillis(value.nanos),
+                                value.count));
+            }
+            for (Map.Entry<String, Long> count : project.getValue().counts.entrySet()) {
+                sb.append(
+                        String.format(
+                                Locale.ROOT, format, path, count.getKey(), "", count.getValue()));
+            }
+            Timing apply = project.getValue().timings.get(ProjectProfile.APPLY);
+            if (apply != null) {
+                totalNanos += apply.nanos;
+            }
+        }
+        sb.append(String.format(Locale.ROOT, "Total applying: %s ms", toMillis(totalNanos)));
+        return sb.toString();
+    }
+
+    private String createJson() {
+        var sb = new StringBuilder("{\"projects\":[");
+        boolean firstProject = true;
+        for (Map.Entry<String, ProjectData> project : projects.entrySet()) {
+            if (!firstProject) {
+                sb.append(',');
+            }
+            firstProject = false;
+            sb.append("\n{\"path\":");
+            Json.appendQuoted(sb, project.getKey()).append(",\"actions\":{");
+            boolean first = true;
+            for (Map.Entry<String, Timing> timing : project.getValue().timings.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                Json.appendQuoted(sb, timing.getKey())
+                        .append(":{\"count\":")
+                        .append(timing.getValue().count)
+                        .append(",\"millis\":")
+                        .append(toMillis(timing.getValue().nanos))
+                        .append('}');
+            }
+            sb.append("},\"counts\":{");
+            first = true;
+            for (Map.Entry<String, Long> count : project.getValue().counts.entrySet()) {
+                if (!first) {
+                    sb.append(',');
+                }
+                first = false;
+                Json.appendQuoted(sb, count.getKey()).append(':').append(count.getValue());
+            }
+            sb.append("}}");
+        }
+        sb.append("\n]}\n");
+        return sb.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private static final class ProjectData {
+        private final Map<String, Timing> timings = new TreeMap<>();
+        private final Map<String, Long> counts = new TreeMap<>();
+    }
+
+    private static final class Timing {
+        private int count;
+        private long nanos;
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.gradle.api.Action;
+import org.gradle.api.Task;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileCollection;
+import org.gradle.api.invocation.Gradle;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.Provider;
+import org.gradle.api.services.BuildService;
+import org.gradle.api.services.BuildServiceParameters;
+import org.gradle.api.services.BuildServiceRegistration;
+import org.gradle.api.tasks.compile.JavaCompile;
+import org.gradle.build.event.BuildEventsListenerRegistry;
+import org.gradle.tooling.events.FinishEvent;
+import org.gradle.tooling.events.OperationCompletionListener;
+import org.gradle.tooling.events.task.TaskFailureResult;
+import org.gradle.tooling.events.task.TaskFinishEvent;
+import org.gradle.tooling.events.task.TaskOperationResult;
+import org.gradle.tooling.events.task.TaskSuccessResult;
+import org.zaproxy.gradle.common.internal.Json;
+
+/**
+ * A build service that records the metrics of the executed {@link JavaCompile} tasks.
+ *
+ * <p>For each task it records the wall time, the number of source files, the number of entries in
+ * the annotation processor path, and whether the compilation was incremental or full. At the end of
+ * the build, the tasks are logged from the slowest to the fastest and written to text and JSON
+ * reports.
+ */
+public abstract class JavaCompileMetrics
+        implements BuildService<JavaCompileMetrics.Parameters>,
+                OperationCompletionListener,
+                AutoCloseable {
+
+    private static final Logger LOGGER = Logging.getLogger(JavaCompileMetrics.class);
+
+    static final String NAME = "zapCommonJavaCompileMetrics";
+
+    static final String REPORT_DIR = "build/reports/zap-common";
+
+    static final String REPORT_NAME = "java-compile-metrics";
+
+    /** The parameters of the service. */
+    public interface Parameters extends BuildServiceParameters {
+
+        DirectoryProperty getReportDirectory();
+    }
+
+    private final Map<String, Compilation> compilations = new HashMap<>();
+
+    /**
+     * Registers the service and its listener of the tasks, once per build.
+     *
+     * @param gradle the build.
+     * @param rootDir the root directory of the build, where the reports are written.
+     * @param buildEvents the registry of the listener.
+     * @return the provider of the service.
+     */
+    static synchronized Provider<JavaCompileMetrics> register(
+            Gradle gradle, File rootDir, BuildEventsListenerRegistry buildEvents) {
+        BuildServiceRegistration<?, ?> registration =
+                gradle.getSharedServices().getRegistrations().findByName(NAME);
+        if (registration != null) {
+            @SuppressWarnings("unchecked")
+            var service = (Provider<JavaCompileMetrics>) registration.getService();
+            return service;
+        }
+
+        Provider<JavaCompileMetrics> service =
+                gradle.getSharedServices()
+                        .registerIfAbsent(
+                                NAME,
+                                JavaCompileMetrics.class,
+                                spec ->
+                                        spec.getParameters()
+                                                .getReportDirectory()
+                                                .set(new File(rootDir, REPORT_DIR)));
+        buildEvents.onTaskCompletion(service);
+        return service;
+    }
+
+    /**
+     * Attaches the service to the given task, to record its metrics.
+     *
+     * <p>Should be called only if the metrics are enabled, the task is not changed otherwise.
+     *
+     * @param task the task.
+     * @param service the provider of the service.
+     */
+    static void attach(JavaCompile task, Provider<JavaCompileMetrics> service) {
+        task.usesService(service);
+        task.doFirst(new RecordInputs(service));
+    }
+
+    synchronized void recordInputs(String path, int sources, int processorPath) {
+        Compilation compilation = compilations.computeIfAbsent(path, Compilation::new);
+        compilation.sources = sources;
+        compilation.processorPath = processorPath;
+    }
+
+    @Override
+    public synchronized void onFinish(FinishEvent event) {
+        if (!(event instanceof TaskFinishEvent taskEvent)) {
+            return;
+        }
+        Compilation compilation = compilations.get(taskEvent.getDescriptor().getTaskPath());
+        if (compilation == null) {
+            return;
+        }
+
+        TaskOperationResult result = taskEvent.getResult();
+        compilation.millis = result.getEndTime() - result.getStartTime();
+        if (result instanceof TaskFailureResult) {
+            compilation.type = "failed";
+        } else if (result instanceof TaskSuccessResult success && success.isIncremental()) {
+            compilation.type = "incremental";
+        } else {
+            compilation.type = "full";
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (compilations.isEmpty()) {
+            return;
+        }
+
+        List<Compilation> sorted = new ArrayList<>(compilations.values());
+        sorted.sort(
+                Comparator.comparingLong((Compilation c) -> c.millis)
+                        .reversed()
+                        .thenComparing(c -> c.path));
+        String summary = createSummary(sorted);
+        LOGGER.lifecycle(summary);
+
+        Path dir = getParameters().getReportDirectory().get().getAsFile().toPath();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(REPORT_NAME + ".txt"), summary, StandardCharsets.UTF_8);
+            Files.writeString(
+                    dir.resolve(REPORT_NAME + ".json"), createJson(sorted), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write the Java compile metrics to {}", dir, e);
+        }
+    }
+
+    private static String createSummary(List<Compilation> compilations) {
+        int pathWidth = "Task".length();
+        for (Compilation compilation : compilations) {
+            pathWidth = Math.max(pathWidth, compilation.path.length());
+        }
+
+        String format = "%-" + pathWidth + "s  %10s  %8s  %14s  %11s%n";
+        var sb = new StringBuilder("Java compile metrics:\n");
+        sb.append(
+                String.format(
+                        Locale.ROOT,
+                        format,
+                        "Task",
+                        "Time (ms)",
+                        "Sources",
+                        "Processor path",
+                        "Compilation"));
+        long totalMillis = 0;
+        for (Compilation compilation : compilations) {
+            sb.append(
+                    String.format(
+                            Locale.ROOT,
+                            format,
+                            compilation.path,
+                            compilation.millis,
+                            compilation.sources,
+                            compilation.processorPath,
+                            compilation.type));
+            totalMillis += compilation.millis;
+        }
+        sb.append(String.format(Locale.ROOT, "Total: %d ms%n", totalMillis));
+        return sb.toString();
+    }
+
+    private static String createJson(List<Compilation> compilations) {
+        var sb = new StringBuilder("{\"tasks\":[");
+        boolean first = true;
+        for (Compilation compilation : compilations) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append("\n{\"path\":");
+            Json.appendQuoted(sb, compilation.path)
+                    .append(",\"millis\":")
+                    .append(compilation.millis)
+                    .append(",\"sources\":")
+                    .append(compilation.sources)
+                    .append(",\"processorPath\":")
+                    .append(compilation.processorPath)
+                    .append(",\"compilation\":");
+            Json.appendQuoted(sb, compilation.type).append('}');
+        }
+        sb.append("\n]}\n");
+        return sb.toString();
+    }
+
+    private static final class Compilation {
+        private final String path;
+        private int sources;
+        private int processorPath;
+        private long millis;
+        private String type = "unknown";
+
+        Compilation(String path) {
+            this.path = path;
+        }
+    }
+
+    /** Records the inputs of the task, before the compilation. */
+    private static final class RecordInputs implements Action<Task> {
+
+        private final Provider<JavaCompileMetrics> service;
+
+        RecordInputs(Provider<JavaCompileMetrics> service) {
+            this.service = service;
+        }
+
+        @Override
+        public void execute(Task task) {
+            var compile = (JavaCompile) task;
+            FileCollection processorPath = compile.getOptions().getAnnotationProcessorPath();
+            service.get()
+                    .recordInputs(
+                            task.getPath(),
+                            compile.getSource().getFiles().size(),
+                            processorPath == null ? 0 : processorPath.getFiles().size());
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import org.gradle.api.provider.Property;
+
+/**
+ * The settings of the compilation of the Java sources.
+ *
+ * @since 0.6.0
+ */
+public abstract class JavaCompileSettings {
+
+    /** The Gradle property that allows to choose the profile, for example, per developer. */
+    public static final String PROFILE_PROPERTY = "org.zaproxy.common.javaCompile.profile";
+
+    /** The Gradle property that allows to enable the metrics, for example, per build. */
+    public static final String METRICS_PROPERTY = "org.zaproxy.common.javaCompile.metrics";
+
+    static final String DEFAULT_FORK_MEMORY_MAXIMUM_SIZE = "1g";
+
+    /**
+     * Gets the profile of the compilation.
+     *
+     * <p>Defaults to the value of the Gradle property {@value #PROFILE_PROPERTY}, if set,
+     * otherwise, {@link Profile#DEFAULT}. Read once the project is evaluated.
+     *
+     * @return the property with the profile.
+     */
+    public abstract Property<Profile> getProfile();
+
+    /**
+     * Gets the maximum heap size of the forked compiler, used with the {@link Profile#PERFORMANCE
+     * PERFORMANCE} profile.
+     *
+     * <p>Defaults to {@value #DEFAULT_FORK_MEMORY_MAXIMUM_SIZE}.
+     *
+     * @return the property with the maximum heap size, for example, {@code 2g}.
+     */
+    public abstract Property<String> getForkMemoryMaximumSize();
+
+    /**
+     * Gets the compile policy of {@code javac}, used with the {@link Profile#PERFORMANCE
+     * PERFORMANCE} profile.
+     *
+     * <p>Not set by default, to use the one of {@code javac}.
+     *
+     * @return the property with the compile policy, for example, {@code byfile} or {@code simple}.
+     */
+    public abstract Property<String> getCompilePolicy();
+
+    /**
+     * Gets whether or not the metrics of the compilation should be collected.
+     *
+     * <p>If enabled, the wall time, the number of sources, the size of the annotation processor
+     * path, and whether the compilation was incremental or full are recorded for all the executed
+     * compile tasks and reported at the end of the build, also to {@code
+     * build/reports/zap-common/java-compile-metrics.txt} and {@code .json} of the root project.
+     *
+     * <p>Defaults to the value of the Gradle property {@value #METRICS_PROPERTY}, if set,
+     * otherwise, {@code false}. Read once the project is evaluated, the compile tasks are not
+     * changed if not enabled.
+     *
+     * @return the property that controls the collection of the metrics.
+     */
+    public abstract Property<Boolean> getMetrics();
+
+    /** The profiles of the compilation. */
+    public enum Profile {
+        /**
+         * Compiles in the daemon, with all lint warnings enabled and treated as errors.
+         *
+         * <p>Slower, but reports the warnings in all builds.
+         */
+        DEFAULT,
+
+        /**
+         * Compiles in a forked compiler, without lint warnings.
+         *
+         * <p>The lint warnings are reported, as errors, by separate tasks run with {@code check},
+         * for example, {@code lintJava}, registered only with this profile. The arguments added
+         * by the build to the compile tasks are kept.
+         */
+        PERFORMANCE
+    }
+}
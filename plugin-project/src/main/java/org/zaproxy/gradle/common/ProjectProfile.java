@@ -0,0 +1,109 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.util.function.LongSupplier;
+import org.gradle.api.Project;
+
+/**
+ * The profile of the configuration of a project, by the plugin.
+ *
+ * <p>Does nothing unless enabled with the Gradle property {@value #PROFILE_PROPERTY}, in which case
+ * the times and counts are recorded with the {@link ConfigurationProfiler}.
+ */
+class ProjectProfile {
+
+    /** The Gradle property that enables the profiling of the configuration. */
+    static final String PROFILE_PROPERTY = "org.zaproxy.common.profile";
+
+    static final String APPLY = "apply";
+
+    private static final ProjectProfile DISABLED = new ProjectProfile();
+
+    private ProjectProfile() {}
+
+    /**
+     * Creates the profile for the given project.
+     *
+     * @param project the project.
+     * @return the profile, never {@code null}.
+     */
+    static ProjectProfile create(Project project) {
+        boolean enabled =
+                project.getProviders()
+                        .gradleProperty(PROFILE_PROPERTY)
+                        .map(Boolean::parseBoolean)
+                        .getOrElse(false);
+        if (!enabled) {
+            return DISABLED;
+        }
+        return new Enabled(
+                project.getPath(),
+                ConfigurationProfiler.register(project.getGradle(), project.getRootDir()).get());
+    }
+
+    /**
+     * Runs the given action, recording its time.
+     *
+     * @param name the name of the action.
+     * @param action the action.
+     */
+    void time(String name, Runnable action) {
+        action.run();
+    }
+
+    /**
+     * Records the count with the given name.
+     *
+     * <p>The count is only obtained if enabled.
+     *
+     * @param name the name of the count.
+     * @param count the supplier of the count.
+     */
+    void count(String name, LongSupplier count) {
+        // Nothing to do.
+    }
+
+    private static final class Enabled extends ProjectProfile {
+
+        private final String path;
+        private final ConfigurationProfiler profiler;
+
+        Enabled(String path, ConfigurationProfiler profiler) {
+            this.path = path;
+            this.profiler = profiler;
+        }
+
+        @Override
+        void time(String name, Runnable action) {
+            long start = System.nanoTime();
+            try {
+                action.run();
+            } finally {
+                profiler.recordTime(path, name, System.nanoTime() - start);
+            }
+        }
+
+        @Override
+        void count(String name, LongSupplier count) {
+            profiler.recordCount(path, name, count.getAsLong());
+        }
+    }
+}
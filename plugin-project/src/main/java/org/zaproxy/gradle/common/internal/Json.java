@@ -0,0 +1,69 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.internal;
+
+import java.util.Locale;
+
+/** Utilities to write JSON, shared by the reports of the plugin. Not part of the public API. */
+public final class Json {
+
+    private Json() {}
+
+    /**
+     * Quotes the given value as a JSON string, escaping the quotes, backslashes, and control
+     * characters.
+     *
+     * @param value the value to quote.
+     * @return the JSON string, with the surrounding quotes.
+     */
+    public static String quote(String value) {
+        return appendQuoted(new StringBuilder(value.length() + 2), value).toString();
+    }
+
+    /**
+     * Appends the given value, quoted as a JSON string, to the given builder.
+     *
+     * @param sb the builder to append to.
+     * @param value the value to quote.
+     * @return the given builder.
+     * @see #quote(String)
+     */
+    public static StringBuilder appendQuoted(StringBuilder sb, String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        sb.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"');
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A formatter of the license header of many files, that reads just the prefix of the files.
+ *
+ * <p>The prefix is decoded, as UTF-8, into a buffer reused across the files, and the whole file is
+ * read and written only if the header does not match. As done by Spotless before the step, the
+ * contents are compared and changed with Unix line endings, the files with Windows line endings are
+ * written back with them.
+ *
+ * <p>Not thread-safe, each batch of files uses its own formatter.
+ */
+final class BatchLicenseHeaderFormatter {
+
+    /** The minimum number of bytes read from each file. */
+    static final int MIN_PREFIX_SIZE = 4 * 1024;
+
+    private static final String UNIX_LINE_ENDING = "\n";
+    private static final String WINDOWS_LINE_ENDING = "\r\n";
+
+    private final LicenseHeader header;
+    private final boolean check;
+    private final CharsetDecoder decoder =
+            StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+    private final ByteBuffer bytes;
+    private final CharBuffer chars;
+
+    BatchLicenseHeaderFormatter(LicenseHeader header, boolean check) {
+        this.header = header;
+        this.check = check;
+        // UTF-8 needs at most 3 bytes per char of the header.
+        int size = Math.max(MIN_PREFIX_SIZE, 3 * header.getMaxLength());
+        this.bytes = ByteBuffer.allocate(size);
+        this.chars = CharBuffer.allocate(size);
+    }
+
+    /**
+     * Formats, or checks, the license header of the given file.
+     *
+     * @param file the file, with Unix or Windows line endings.
+     * @return {@code true} if the header did not match, {@code false} otherwise.
+     * @throws IOException if an error occurred while reading or writing the file.
+     * @throws IllegalArgumentException if the file has no start of the code, when formatting.
+     */
+    boolean format(Path file) throws IOException {
+        if (header.matches(toUnix(readPrefix(file)))) {
+            return false;
+        }
+        if (!check) {
+            String content = Files.readString(file);
+            boolean windows = content.contains(WINDOWS_LINE_ENDING);
+            if (windows) {
+                content = content.replace(WINDOWS_LINE_ENDING, UNIX_LINE_ENDING);
+            }
+            String formatted = header.apply(content);
+            if (windows) {
+                formatted = formatted.replace(UNIX_LINE_ENDING, WINDOWS_LINE_ENDING);
+            }
+            Files.writeString(file, formatted);
+        }
+        return true;
+    }
+
+    /**
+     * Removes, in place, the carriage returns of the Windows line endings of the given chars.
+     *
+     * <p>A carriage return at the end is also removed, the prefix might end in the middle of a
+     * line ending.
+     */
+    private static CharBuffer toUnix(CharBuffer chars) {
+        int length = chars.limit();
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            char c = chars.get(i);
+            if (c == '\r' && (i + 1 == length || chars.get(i + 1) == '\n')) {
+                continue;
+            }
+            chars.put(pos++, c);
+        }
+        return chars.limit(pos);
+    }
+
+    private CharBuffer readPrefix(Path file) throws IOException {
+        bytes.clear();
+        boolean endOfInput = false;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (bytes.hasRemaining() && !endOfInput) {
+                endOfInput = channel.read(bytes) == -1;
+            }
+        }
+        bytes.flip();
+
+        chars.clear();
+        decoder.reset();
+        // Malformed input just stops the decoding, the header will not match.
+        decoder.decode(bytes, chars, endOfInput);
+        return chars.flip();
+    }
+}
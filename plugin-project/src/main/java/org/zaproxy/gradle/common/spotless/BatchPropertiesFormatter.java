@@ -0,0 +1,97 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult.Status;
+
+/**
+ * Formats, or checks the format of, properties files one after the other.
+ *
+ * <p>The files are read with a {@link PropertiesFileReader} and checked if already formatted
+ * before creating a string, which is then formatted with a {@link FormattingContext} reused across
+ * the files.
+ *
+ * <p>Not thread-safe.
+ */
+final class BatchPropertiesFormatter {
+
+    private final boolean check;
+    private final PropertiesFileReader reader;
+    private final FormattingContext context;
+
+    BatchPropertiesFormatter(Engine engine, boolean check) {
+        this.check = check;
+        this.reader =
+                new PropertiesFileReader(
+                        check ? PropertiesFileReader.DEFAULT_MAPPING_THRESHOLD : Long.MAX_VALUE);
+        this.context = new FormattingContext(engine);
+    }
+
+    /**
+     * Formats, or checks the format of, the given file.
+     *
+     * @param file the properties file.
+     * @return the result, never {@code null}, invalid if the file is not valid UTF-8.
+     * @throws IOException if an error occurred while reading or writing the file.
+     */
+    FileResult format(Path file) throws IOException {
+        CharBuffer chars;
+        try {
+            chars = reader.read(file);
+        } catch (CharacterCodingException e) {
+            return new FileResult(file, Status.INVALID, "Not valid UTF-8: " + e.getMessage());
+        }
+        if (PropertiesFormatter.isFormatted(chars)) {
+            return new FileResult(file, Status.UNCHANGED, null);
+        }
+
+        String content = toUnix(chars.toString());
+        String formatted;
+        try {
+            formatted = context.format(content);
+        } catch (Exception e) {
+            return new FileResult(file, Status.INVALID, e.getMessage());
+        }
+
+        if (formatted.equals(content)) {
+            return new FileResult(file, Status.UNCHANGED, null);
+        }
+        if (check) {
+            return new FileResult(file, Status.NOT_FORMATTED, null);
+        }
+        Files.writeString(file, formatted, StandardCharsets.UTF_8);
+        return new FileResult(file, Status.FORMATTED, null);
+    }
+
+    private static String toUnix(String content) {
+        if (content.indexOf('\r') == -1) {
+            return content;
+        }
+        return content.replace("\r\n", "\n").replace('\r', '\n');
+    }
+}
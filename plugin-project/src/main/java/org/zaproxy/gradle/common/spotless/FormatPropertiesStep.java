@@ -19,16 +19,19 @@
  */
 package org.zaproxy.gradle.common.spotless;
 
-import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.DUPLICATE;
-import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.LEADING_SPACE_IN_NAME;
-
+import com.diffplug.spotless.FormatterFunc;
 import com.diffplug.spotless.FormatterStep;
+import java.io.File;
+import java.io.IOException;
+import java.io.Serializable;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import org.apache.commons.configuration2.PropertiesConfiguration;
@@ -42,49 +45,284 @@ public final class FormatPropertiesStep {
     private FormatPropertiesStep() {}
 
     /**
-     * Creates a new {@link FormatPropertiesStep}.
+     * Creates a new {@link FormatPropertiesStep}, using the {@link Engine#COMMONS_CONFIGURATION}
+     * engine.
      *
      * @return a {@link FormatterStep}
      */
     public static FormatterStep create() {
+        return create(Engine.COMMONS_CONFIGURATION);
+    }
+
+    /**
+     * Creates a new {@link FormatPropertiesStep}, using the given engine.
+     *
+     * @param engine the engine that formats the properties.
+     * @return a {@link FormatterStep}
+     * @since 0.6.0
+     */
+    public static FormatterStep create(Engine engine) {
+        return create(engine, null);
+    }
+
+    /**
+     * Creates a new {@link FormatPropertiesStep}, using the given engine and persistent cache.
+     *
+     * <p>The cache keeps the results of the formatting of the bigger contents across builds, keyed
+     * by the hash of the contents, so that unchanged files are not formatted again. The directory
+     * can be shared by concurrent builds. It's part of the state of the step, relative to the user
+     * home directory if under it, so that it's kept when Spotless serializes the step and that the
+     * results in the build cache are reused in other machines with the same user home layout.
+     *
+     * @param engine the engine that formats the properties.
+     * @param cacheDir the directory of the cache, or {@code null} to not use a cache.
+     * @return a {@link FormatterStep}
+     * @since 0.6.0
+     */
+    public static FormatterStep create(Engine engine, File cacheDir) {
+        Objects.requireNonNull(engine, "The engine must not be null.");
         return FormatterStep.create(
-                "properties", FormatPropertiesStep.class, unused -> FormatPropertiesStep::format);
+                "properties",
+                new State(engine, toCachePath(cacheDir)),
+                FormatPropertiesStep::createFormatter);
+    }
+
+    private static FormatterFunc createFormatter(State state) {
+        var formatter = ReusablePropertiesFormatter.create(state.engine);
+        if (state.cacheDir == null) {
+            return formatter::format;
+        }
+
+        var cache = new PropertiesFormatCache(fromCachePath(state.cacheDir), state.engine);
+        return rawUnix -> {
+            if (PropertiesFormatter.isFormatted(rawUnix)) {
+                return rawUnix;
+            }
+            if (rawUnix.length() < PropertiesFormatCache.MIN_CONTENT_LENGTH) {
+                return formatter.formatNotFormatted(rawUnix);
+            }
+            Path entry = cache.entry(rawUnix);
+            String formatted = cache.get(entry, rawUnix);
+            if (formatted == null) {
+                formatted = formatter.formatNotFormatted(rawUnix);
+                cache.put(entry, rawUnix, formatted);
+            }
+            return formatted;
+        };
+    }
+
+    private static String toCachePath(File cacheDir) {
+        if (cacheDir == null) {
+            return null;
+        }
+        Path dir = cacheDir.toPath().toAbsolutePath().normalize();
+        Path userHome = userHome();
+        if (dir.startsWith(userHome)) {
+            dir = userHome.relativize(dir);
+        }
+        return dir.toString().replace(File.separatorChar, '/');
+    }
+
+    private static Path fromCachePath(String cachePath) {
+        return userHome().resolve(cachePath);
+    }
+
+    private static Path userHome() {
+        return Path.of(System.getProperty("user.home")).toAbsolutePath().normalize();
+    }
+
+    /**
+     * Formats the given content of a properties file, as done by the step.
+     *
+     * @param rawUnix the content, with Unix line endings.
+     * @param engine the engine that formats the properties.
+     * @return the formatted content, the same instance if already formatted.
+     * @throws Exception if the content has invalid properties or could not be parsed.
+     * @since 0.6.0
+     */
+    public static String format(String rawUnix, Engine engine) throws Exception {
+        if (PropertiesFormatter.isFormatted(rawUnix)) {
+            return rawUnix;
+        }
+        return formatWith(rawUnix, engine);
+    }
+
+    /**
+     * Formats, or checks the format of, the given properties files, one after the other.
+     *
+     * <p>The buffers used to read the files, and the objects used to format them, are reused
+     * across the files, which avoids most of the setup done for each file by the step. The files
+     * are decoded as UTF-8 and, if formatted, written with Unix line endings. When checking, the
+     * bigger files are memory mapped instead of read.
+     *
+     * @param files the properties files.
+     * @param engine the engine that formats the properties.
+     * @param check {@code true} to only check the format of the files, {@code false} to format
+     *     them.
+     * @return the results, in the order of the files, never {@code null}. The files that are not
+     *     valid UTF-8 are reported as invalid, without stopping the batch.
+     * @throws IOException if an error occurred while reading or writing a file.
+     * @since 0.6.0
+     */
+    public static List<FileResult> format(Collection<Path> files, Engine engine, boolean check)
+            throws IOException {
+        Objects.requireNonNull(engine, "The engine must not be null.");
+        var formatter = new BatchPropertiesFormatter(engine, check);
+        List<FileResult> results = new ArrayList<>(files.size());
+        for (Path file : files) {
+            try {
+                results.add(formatter.format(file));
+            } catch (IOException e) {
+                throw new IOException("Failed to format the properties file: " + file, e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Tells whether or not the given content of a properties file is already formatted, as done
+     * by the step, in a single pass and without copying the content.
+     *
+     * <p>Allows to check the content, for example, decoded into a reused or mapped buffer, before
+     * creating a string to format it.
+     *
+     * @param content the content, with Unix line endings.
+     * @return {@code true} if the content is formatted, {@code false} if not, or if it could not
+     *     be determined without formatting it.
+     * @since 0.6.0
+     */
+    public static boolean isFormatted(CharSequence content) {
+        return PropertiesFormatter.isFormatted(content);
+    }
+
+    /**
+     * Formats the given properties file into the given output, keeping the memory bounded
+     * regardless of the size of the file.
+     *
+     * <p>The properties are sorted in chunks of about the given number of characters, spilled to
+     * temporary files, and then merged into the output. Produces the same output as the other
+     * engines.
+     *
+     * @param file the properties file to format.
+     * @param output the file where to write the formatted properties, might be deleted on errors.
+     * @param tempDir the directory for the temporary files.
+     * @param chunkSize the number of characters sorted in memory at a time.
+     * @return {@code true} if the file is already formatted, ignoring the line endings, {@code
+     *     false} otherwise.
+     * @throws IOException if an error occurred while reading or writing the files.
+     * @throws RuntimeException if the file has invalid properties or could not be parsed.
+     * @since 0.6.0
+     */
+    public static boolean format(Path file, Path output, Path tempDir, int chunkSize)
+            throws IOException {
+        return LargePropertiesFormatter.format(file, output, tempDir, chunkSize);
+    }
+
+    private static String formatWith(String rawUnix, Engine engine) throws Exception {
+        if (engine == Engine.STREAMING) {
+            return PropertiesFormatter.format(rawUnix);
+        }
+        return format(rawUnix);
+    }
+
+    /**
+     * The state of the step, which Spotless serializes into the key of the build cache.
+     *
+     * <p>Only has values that are the same in any project directory, the directory of the
+     * persistent cache is relative to the user home directory, if under it. Has the version of the
+     * formatting and of Commons Configuration, so that the results cached with previous versions
+     * are not reused.
+     */
+    private static final class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unused") // Only serialized.
+        private final int formatVersion = PropertiesFormatCache.FORMAT_VERSION;
+
+        @SuppressWarnings("unused") // Only serialized.
+        private final String libraryVersion = PropertiesFormatCache.LIBRARY_VERSION;
+
+        private final Engine engine;
+        private final String cacheDir;
+
+        State(Engine engine, String cacheDir) {
+            this.engine = engine;
+            this.cacheDir = cacheDir;
+        }
+    }
+
+    /**
+     * The result of formatting, or checking the format of, a properties file.
+     *
+     * @param file the properties file.
+     * @param status the status of the file.
+     * @param reason the reason why the file is invalid, or {@code null} if valid.
+     * @since 0.6.0
+     */
+    public record FileResult(Path file, Status status, String reason) {
+
+        /** The status of a properties file, after being formatted or checked. */
+        public enum Status {
+            /** The file is already formatted. */
+            UNCHANGED,
+
+            /** The file was formatted. */
+            FORMATTED,
+
+            /** The file is not formatted, when checking. */
+            NOT_FORMATTED,
+
+            /** The file is not valid UTF-8, has invalid properties, or could not be parsed. */
+            INVALID
+        }
+    }
+
+    /**
+     * The engines that format the properties, all produce the same output.
+     *
+     * @since 0.6.0
+     */
+    public enum Engine {
+        /** Reads and writes the properties with Commons Configuration. */
+        COMMONS_CONFIGURATION,
+
+        /** Reads and writes the properties in a single pass, without intermediate objects. */
+        STREAMING
     }
 
     @NotNull
     static String format(String rawUnix) throws Exception {
-        var properties = new PropertiesConfiguration();
-        properties.setLayout(new SortedPropertiesConfigurationLayout());
-        properties.setIOFactory(new PropertiesConfiguration.JupIOFactory(false));
-        properties.read(new StringReader(rawUnix));
+        PropertiesKeyValidator.validateFormattable(rawUnix);
+        return format(rawUnix, createConfiguration(), new StringWriter());
+    }
 
-        Map<InvalidPropertyReason, List<String>> invalidProperties =
-                new EnumMap<>(InvalidPropertyReason.class);
-        properties
-                .getKeys()
-                .forEachRemaining(
-                        key -> {
-                            if ("".equals(key)) {
-                                invalidProperties
-                                        .computeIfAbsent(
-                                                LEADING_SPACE_IN_NAME, k -> new ArrayList<>())
-                                        .add(properties.getString(key).split("=", 2)[0].trim());
-                            } else if (!properties.getLayout().isSingleLine(key)) {
-                                invalidProperties
-                                        .computeIfAbsent(DUPLICATE, k -> new ArrayList<>())
-                                        .add(key);
-                            }
-                        });
-        if (!invalidProperties.isEmpty()) {
-            throw new InvalidPropertiesException(invalidProperties);
-        }
+    /**
+     * Formats the given content, already validated, with the given configuration and writer,
+     * which must be empty.
+     *
+     * @param rawUnix the content, with Unix line endings.
+     * @param properties the configuration, created with {@link #createConfiguration()}.
+     * @param writer the writer of the formatted content.
+     * @return the formatted content.
+     * @throws Exception if the content could not be parsed.
+     */
+    @NotNull
+    static String format(String rawUnix, PropertiesConfiguration properties, StringWriter writer)
+            throws Exception {
+        properties.read(new StringReader(rawUnix));
 
         properties.getLayout().setGlobalSeparator(" = ");
-        var writer = new StringWriter();
         properties.write(writer);
         return writer.toString();
     }
 
+    static PropertiesConfiguration createConfiguration() {
+        var properties = new PropertiesConfiguration();
+        properties.setLayout(new SortedPropertiesConfigurationLayout());
+        properties.setIOFactory(new PropertiesConfiguration.JupIOFactory(false));
+        return properties;
+    }
+
     private static class SortedPropertiesConfigurationLayout extends PropertiesConfigurationLayout {
         @Override
         public Set<String> getKeys() {
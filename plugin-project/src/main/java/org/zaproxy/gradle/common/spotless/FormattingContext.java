@@ -0,0 +1,93 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.StringWriter;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+/**
+ * The buffers and objects used to format properties, reused across the contents formatted.
+ *
+ * <p>Keeps the buffer with the characters of the content and, with the {@link
+ * Engine#COMMONS_CONFIGURATION} engine, the configuration, its layout, and the writer, all cleared
+ * after each content. The buffers of contents bigger than {@value #MAX_RETAINED_SIZE} characters
+ * are not kept, to not retain the memory used by unusually large files.
+ *
+ * <p>Not thread-safe.
+ */
+final class FormattingContext {
+
+    static final int MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private final Engine engine;
+    private char[] chars = new char[0];
+    private PropertiesConfiguration properties;
+    private StringWriter writer;
+
+    FormattingContext(Engine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Formats the given content.
+     *
+     * @param rawUnix the content, with Unix line endings.
+     * @return the formatted content.
+     * @throws Exception if the content has invalid properties or could not be parsed.
+     */
+    String format(String rawUnix) throws Exception {
+        int length = rawUnix.length();
+        char[] buf = chars.length >= length ? chars : new char[length];
+        rawUnix.getChars(0, length, buf, 0);
+        if (length <= MAX_RETAINED_SIZE) {
+            chars = buf;
+        }
+
+        if (engine == Engine.STREAMING) {
+            return PropertiesFormatter.format(buf, length);
+        }
+
+        PropertiesKeyValidator.validateFormattable(buf, 0, length);
+        if (properties == null) {
+            properties = FormatPropertiesStep.createConfiguration();
+        }
+        if (writer == null) {
+            writer = new StringWriter();
+        }
+        try {
+            return FormatPropertiesStep.format(rawUnix, properties, writer);
+        } catch (Exception e) {
+            // Do not reuse a configuration that might not have been fully read.
+            properties = null;
+            throw e;
+        } finally {
+            if (properties != null) {
+                // Also clears the layout, which listens to the changes of the configuration.
+                properties.clear();
+            }
+            if (writer.getBuffer().capacity() > MAX_RETAINED_SIZE) {
+                writer = null;
+            } else {
+                writer.getBuffer().setLength(0);
+            }
+        }
+    }
+}
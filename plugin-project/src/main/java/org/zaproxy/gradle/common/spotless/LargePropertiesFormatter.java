@@ -0,0 +1,326 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.DUPLICATE;
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.LEADING_SPACE_IN_NAME;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason;
+
+/**
+ * A formatter of properties files that keeps the memory bounded, regardless of the size of the
+ * files.
+ *
+ * <p>The file is read in chunks of about the given size, each chunk is sorted with {@link
+ * PropertiesFormatter} and spilled to a temporary file, which are then merged into the output, an
+ * external merge sort. Produces the same output as the other engines.
+ */
+final class LargePropertiesFormatter {
+
+    private static final Comparator<Run> RUN_ORDER =
+            Comparator.comparing((Run r) -> r.key).thenComparingInt(r -> r.index);
+
+    private final Path tempDir;
+    private final int chunkSize;
+    private final List<Path> runFiles = new ArrayList<>();
+
+    private char[] chunk;
+    private int chunkLength;
+    private int entryCount;
+    private CharSequence header;
+    private CharSequence trailer = "";
+
+    private LargePropertiesFormatter(Path tempDir, int chunkSize) {
+        this.tempDir = tempDir;
+        this.chunkSize = chunkSize;
+        this.chunk = new char[Math.min(chunkSize, 8192) + 1];
+    }
+
+    /**
+     * Formats the given properties file into the given output.
+     *
+     * @param input the properties file to format.
+     * @param output the file where to write the formatted properties.
+     * @param tempDir the directory for the temporary files.
+     * @param chunkSize the number of characters sorted in memory at a time.
+     * @return {@code true} if the input is already formatted, that is, same as the output, ignoring
+     *     the line endings, {@code false} otherwise.
+     * @throws IOException if an error occurred while reading or writing the files.
+     * @throws InvalidPropertiesException if the file has invalid properties, the output is deleted.
+     */
+    static boolean format(Path input, Path output, Path tempDir, int chunkSize)
+            throws IOException {
+        var formatter = new LargePropertiesFormatter(tempDir, Math.max(1, chunkSize));
+        try {
+            formatter.split(input);
+            formatter.merge(output);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(output);
+            throw e;
+        } finally {
+            for (Path runFile : formatter.runFiles) {
+                Files.deleteIfExists(runFile);
+            }
+        }
+        return contentEquals(input, output);
+    }
+
+    private void split(Path input) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8)) {
+            // As in the other engines, the comment lines are not part of a property read so far
+            // empty, even if continued, for example, after a lone backslash.
+            boolean empty = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int start = chunkLength;
+                appendLine(line);
+                int end = chunkLength - 1;
+                if (empty && PropertiesFormatter.isCommentLine(chunk, start, end)) {
+                    continue;
+                }
+                if (PropertiesFormatter.isContinued(chunk, start, end)) {
+                    empty &= end - start == 1;
+                } else {
+                    empty = true;
+                    if (chunkLength >= chunkSize) {
+                        spill();
+                    }
+                }
+            }
+        }
+        if (chunkLength != 0 || runFiles.isEmpty()) {
+            spill();
+        }
+    }
+
+    private void appendLine(String line) {
+        int required = chunkLength + line.length() + 1;
+        if (required > chunk.length) {
+            chunk = Arrays.copyOf(chunk, Math.max(required, chunk.length * 2));
+        }
+        line.getChars(0, line.length(), chunk, chunkLength);
+        chunkLength += line.length();
+        chunk[chunkLength++] = '\n';
+    }
+
+    private void spill() throws IOException {
+        boolean first = runFiles.isEmpty();
+        PropertiesFormatter.Chunk sorted =
+                PropertiesFormatter.sortChunk(chunk, chunkLength, first);
+        if (first) {
+            header = sorted.header();
+        }
+        trailer = sorted.trailer();
+
+        Path runFile = Files.createTempFile(tempDir, "properties-run-", ".bin");
+        runFiles.add(runFile);
+        try (var out =
+                new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+            out.writeInt(sorted.sorted().length);
+            for (PropertiesFormatter.Entry entry : sorted.sorted()) {
+                writeString(out, entry.key);
+                out.writeInt(entryCount + entry.index);
+                out.writeInt(entry.blankLines);
+                writeString(out, entry.invalidName == null ? "" : entry.invalidName);
+                writeString(out, sorted.blocks().subSequence(entry.blockStart, entry.blockEnd));
+            }
+        }
+        entryCount += sorted.sorted().length;
+        chunkLength = 0;
+    }
+
+    private void merge(Path output) throws IOException {
+        PriorityQueue<Run> queue = new PriorityQueue<>(runFiles.size(), RUN_ORDER);
+        List<Run> runs = new ArrayList<>(runFiles.size());
+        List<String> leadingSpaces = new ArrayList<>(1);
+        List<Duplicate> duplicates = new ArrayList<>();
+        try (Writer out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (Path runFile : runFiles) {
+                var run = new Run(runFile);
+                runs.add(run);
+                if (run.next()) {
+                    queue.add(run);
+                }
+            }
+
+            if (header != null) {
+                out.append(header);
+            }
+            boolean first = true;
+            String previousKey = null;
+            int firstIndex = -1;
+            boolean duplicate = false;
+            while (!queue.isEmpty()) {
+                Run run = queue.poll();
+                if (run.key.isEmpty()) {
+                    if (first) {
+                        leadingSpaces.add(run.invalidName);
+                    }
+                } else if (run.key.equals(previousKey)) {
+                    if (!duplicate) {
+                        duplicates.add(new Duplicate(run.key, firstIndex));
+                        duplicate = true;
+                    }
+                } else {
+                    firstIndex = run.index;
+                    duplicate = false;
+                }
+                previousKey = run.key;
+
+                if (first && header != null && run.blankLines == 0) {
+                    out.append('\n');
+                }
+                for (int i = 0; i < run.blankLines; i++) {
+                    out.append('\n');
+                }
+                out.append(run.block);
+                first = false;
+
+                if (run.next()) {
+                    queue.add(run);
+                }
+            }
+            out.append(trailer);
+        } finally {
+            for (Run run : runs) {
+                run.close();
+            }
+        }
+
+        validate(leadingSpaces, duplicates);
+    }
+
+    private static void validate(List<String> leadingSpaces, List<Duplicate> duplicates) {
+        Map<InvalidPropertyReason, List<String>> invalidProperties =
+                new EnumMap<>(InvalidPropertyReason.class);
+        if (!leadingSpaces.isEmpty()) {
+            invalidProperties.put(LEADING_SPACE_IN_NAME, leadingSpaces);
+        }
+        if (!duplicates.isEmpty()) {
+            duplicates.sort(Comparator.comparingInt(Duplicate::index));
+            List<String> keys = new ArrayList<>(duplicates.size());
+            duplicates.forEach(d -> keys.add(d.key()));
+            invalidProperties.put(DUPLICATE, keys);
+        }
+        if (!invalidProperties.isEmpty()) {
+            throw new InvalidPropertiesException(invalidProperties);
+        }
+    }
+
+    private static boolean contentEquals(Path input, Path output) throws IOException {
+        try (var expected =
+                        new PushbackReader(
+                                Files.newBufferedReader(input, StandardCharsets.UTF_8));
+                Reader actual = Files.newBufferedReader(output, StandardCharsets.UTF_8)) {
+            while (true) {
+                int c = expected.read();
+                if (c == '\r') {
+                    int next = expected.read();
+                    if (next != '\n' && next != -1) {
+                        expected.unread(next);
+                    }
+                    c = '\n';
+                }
+                if (c != actual.read()) {
+                    return false;
+                }
+                if (c == -1) {
+                    return true;
+                }
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, CharSequence value) throws IOException {
+        out.writeInt(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            out.writeChar(value.charAt(i));
+        }
+    }
+
+    private record Duplicate(String key, int index) {}
+
+    /** A sorted run of properties, read from its temporary file. */
+    private static final class Run {
+
+        private final DataInputStream in;
+        private int remaining;
+        private char[] chars = new char[256];
+
+        String key;
+        int index;
+        int blankLines;
+        String invalidName;
+        String block;
+
+        Run(Path file) throws IOException {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            remaining = in.readInt();
+        }
+
+        boolean next() throws IOException {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = readString();
+            index = in.readInt();
+            blankLines = in.readInt();
+            invalidName = readString();
+            block = readString();
+            return true;
+        }
+
+        private String readString() throws IOException {
+            int length = in.readInt();
+            if (chars.length < length) {
+                chars = new char[length];
+            }
+            for (int i = 0; i < length; i++) {
+                chars[i] = in.readChar();
+            }
+            return new String(chars, 0, length);
+        }
+
+        void close() throws IOException {
+            in.close();
+        }
+    }
+}
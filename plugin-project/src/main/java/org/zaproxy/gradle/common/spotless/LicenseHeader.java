@@ -0,0 +1,198 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A license header, compiled from a template, that checks the header of a content by comparing
+ * just its prefix.
+ *
+ * <p>The template can have the placeholder {@value #YEAR_PLACEHOLDER}, which matches any year or
+ * range of years, for example, {@code 2023} or {@code 2015-2025}. The header is followed by the
+ * start of the code, for example, the {@code package} declaration.
+ *
+ * <p>Thread-safe, the same instance can be used by all the formatters.
+ */
+final class LicenseHeader {
+
+    /** The version of the checks and changes of the header, to be increased when they change. */
+    static final int FORMAT_VERSION = 1;
+
+    /** The placeholder of the year in the template. */
+    static final String YEAR_PLACEHOLDER = "$YEAR";
+
+    /** The start of the code, which the header precedes, as used by Spotless for Java. */
+    private static final List<String> CODE_STARTS =
+            List.of("package ", "import ", "public ", "class ", "module ");
+
+    private static final Pattern CODE_START =
+            Pattern.compile(
+                    "^(package|import|public|class|module) ",
+                    Pattern.UNIX_LINES | Pattern.MULTILINE);
+
+    private static final Pattern YEAR = Pattern.compile("[0-9]{4}(-[0-9]{4})?");
+
+    private static final int YEAR_LENGTH = 4;
+    private static final int MAX_YEAR_LENGTH = 2 * YEAR_LENGTH + 1;
+    private static final int MAX_CODE_START_LENGTH =
+            CODE_STARTS.stream().mapToInt(String::length).max().getAsInt();
+
+    private final String beforeYear;
+    private final String afterYear;
+    private final boolean hasYear;
+    private final String year;
+
+    /**
+     * Constructs a {@code LicenseHeader} from the given template.
+     *
+     * @param template the template of the header, a new line is added if it does not end with
+     *     one.
+     * @param year the year used for the new headers, if the existing ones have none.
+     */
+    LicenseHeader(String template, String year) {
+        String header = template.endsWith("\n") ? template : template + "\n";
+        int idx = header.indexOf(YEAR_PLACEHOLDER);
+        hasYear = idx != -1;
+        if (hasYear) {
+            beforeYear = header.substring(0, idx);
+            afterYear = header.substring(idx + YEAR_PLACEHOLDER.length());
+        } else {
+            beforeYear = header;
+            afterYear = "";
+        }
+        this.year = year;
+    }
+
+    /**
+     * Gets the maximum number of characters needed to check a header, including the start of the
+     * code.
+     *
+     * @return the maximum number of characters.
+     */
+    int getMaxLength() {
+        return beforeYear.length()
+                + (hasYear ? MAX_YEAR_LENGTH : 0)
+                + afterYear.length()
+                + MAX_CODE_START_LENGTH;
+    }
+
+    /**
+     * Tells whether or not the given content starts with the header, immediately followed by the
+     * start of the code.
+     *
+     * <p>Only the first {@link #getMaxLength()} characters, at most, are read.
+     *
+     * @param content the content, with Unix line endings.
+     * @return {@code true} if the content has the header, {@code false} otherwise.
+     */
+    boolean matches(CharSequence content) {
+        if (!regionMatches(content, 0, beforeYear)) {
+            return false;
+        }
+        int pos = beforeYear.length();
+        if (hasYear) {
+            pos = skipYear(content, pos);
+            if (pos == -1 || !regionMatches(content, pos, afterYear)) {
+                return false;
+            }
+            pos += afterYear.length();
+        }
+        for (String codeStart : CODE_STARTS) {
+            if (regionMatches(content, pos, codeStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies the header to the given content, replacing everything before the start of the code.
+     *
+     * <p>The year of the existing header, if any, is kept.
+     *
+     * @param content the content, with Unix line endings.
+     * @return the content with the header, the same instance if it already has the header.
+     * @throws IllegalArgumentException if the content has no start of the code.
+     */
+    String apply(String content) {
+        if (matches(content)) {
+            return content;
+        }
+
+        Matcher codeStart = CODE_START.matcher(content);
+        if (!codeStart.find()) {
+            throw new IllegalArgumentException(
+                    "Unable to find the start of the code: " + CODE_START.pattern());
+        }
+        int start = codeStart.start();
+        if (!hasYear) {
+            return beforeYear + content.substring(start);
+        }
+
+        String headerYear = year;
+        Matcher existingYear = YEAR.matcher(content).region(0, start);
+        if (existingYear.find()) {
+            headerYear = existingYear.group();
+        }
+        return beforeYear + headerYear + afterYear + content.substring(start);
+    }
+
+    private static int skipYear(CharSequence content, int pos) {
+        int end = skipDigits(content, pos);
+        if (end == -1) {
+            return -1;
+        }
+        if (end < content.length() && content.charAt(end) == '-') {
+            int rangeEnd = skipDigits(content, end + 1);
+            return rangeEnd == -1 ? end : rangeEnd;
+        }
+        return end;
+    }
+
+    private static int skipDigits(CharSequence content, int pos) {
+        int end = pos + YEAR_LENGTH;
+        if (end > content.length()) {
+            return -1;
+        }
+        for (int i = pos; i < end; i++) {
+            char c = content.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    private static boolean regionMatches(CharSequence content, int pos, String expected) {
+        int length = expected.length();
+        if (pos + length > content.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (content.charAt(pos + i) != expected.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import com.diffplug.spotless.FormatterFunc;
+import com.diffplug.spotless.FormatterStep;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A Spotless formatter step that checks and applies the license header of Java files.
+ *
+ * <p>The template of the header is compiled once per step, the year, {@code $YEAR}, matches any
+ * year or range of years. Only the prefix of the content is compared with the header, the content
+ * is changed only if it does not match.
+ *
+ * @since 0.6.0
+ */
+public final class LicenseHeaderStep {
+
+    private LicenseHeaderStep() {}
+
+    /**
+     * Creates a new {@link LicenseHeaderStep}, using the given template.
+     *
+     * <p>The new headers, when the existing ones have no year, use the current year.
+     *
+     * @param template the template of the header.
+     * @return a {@link FormatterStep}
+     */
+    public static FormatterStep create(String template) {
+        return create(template, String.valueOf(Year.now().getValue()));
+    }
+
+    static FormatterStep create(String template, String year) {
+        Objects.requireNonNull(template, "The template must not be null.");
+        return FormatterStep.create(
+                "licenseHeader", new State(template, year), LicenseHeaderStep::createFormatter);
+    }
+
+    private static FormatterFunc createFormatter(State state) {
+        return new LicenseHeader(state.template, state.year)::apply;
+    }
+
+    /**
+     * Applies, or checks, the license header of the given files, one after the other.
+     *
+     * <p>Only the first few KiB of each file are read to check the header, the whole file is read
+     * and written only if the header does not match, when applying. The files are decoded as UTF-8
+     * and compared with Unix line endings, the files with Windows line endings are written with
+     * them.
+     *
+     * @param files the files.
+     * @param template the template of the header.
+     * @param check {@code true} to only check the header of the files, {@code false} to apply it.
+     * @return the files whose header did not match, in the order of the files, never {@code
+     *     null}.
+     * @throws IOException if an error occurred while reading or writing a file, or if a file has
+     *     no start of the code, when applying.
+     */
+    public static List<Path> format(Collection<Path> files, String template, boolean check)
+            throws IOException {
+        Objects.requireNonNull(template, "The template must not be null.");
+        var header = new LicenseHeader(template, String.valueOf(Year.now().getValue()));
+        var formatter = new BatchLicenseHeaderFormatter(header, check);
+        List<Path> mismatches = new ArrayList<>();
+        for (Path file : files) {
+            try {
+                if (formatter.format(file)) {
+                    mismatches.add(file);
+                }
+            } catch (IOException | IllegalArgumentException e) {
+                throw new IOException(
+                        "Failed to format the license header of the file: " + file, e);
+            }
+        }
+        return mismatches;
+    }
+
+    /**
+     * The state of the step, which Spotless serializes into the key of the build cache, with the
+     * version of the header checks.
+     */
+    private static final class State implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        @SuppressWarnings("unused") // Only serialized.
+        private final int formatVersion = LicenseHeader.FORMAT_VERSION;
+        private final String template;
+        private final String year;
+
+        State(String template, String year) {
+            this.template = template;
+            this.year = year;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A reader of properties files, that decodes them, as UTF-8, into a buffer reused across the
+ * files.
+ *
+ * <p>The files with at least the mapping threshold are memory mapped and decoded directly from the
+ * mapping, the smaller ones are read into a heap buffer, also reused, as mapping them costs more
+ * than reading them. The mappings are released only when garbage collected, which on some systems
+ * prevents the files from being changed, so they should be used only to check the files.
+ *
+ * <p>Not thread-safe, each batch of files uses its own reader.
+ */
+final class PropertiesFileReader {
+
+    /** The default size, in bytes, from which the files are memory mapped. */
+    static final long DEFAULT_MAPPING_THRESHOLD = 64 * 1024;
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+    private static final int MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private final long mappingThreshold;
+    private final CharsetDecoder decoder =
+            StandardCharsets.UTF_8
+                    .newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT);
+
+    private ByteBuffer bytes = ByteBuffer.allocate(INITIAL_BUFFER_SIZE);
+    private CharBuffer chars = CharBuffer.allocate(INITIAL_BUFFER_SIZE);
+
+    /**
+     * Constructs a {@code PropertiesFileReader} with the given mapping threshold.
+     *
+     * @param mappingThreshold the size, in bytes, from which the files are memory mapped, {@link
+     *     Long#MAX_VALUE} to always read them into the heap.
+     */
+    PropertiesFileReader(long mappingThreshold) {
+        this.mappingThreshold = mappingThreshold;
+    }
+
+    /**
+     * Reads the given file.
+     *
+     * @param file the file to read.
+     * @return the content of the file, valid only until the next read.
+     * @throws IOException if an error occurred while reading the file or if it's not valid UTF-8.
+     */
+    CharBuffer read(Path file) throws IOException {
+        ByteBuffer input;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("File too big to read: " + file);
+            }
+            input =
+                    size >= mappingThreshold
+                            ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                            : readFully(channel, (int) size);
+        }
+        return decode(input);
+    }
+
+    private ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        if (bytes.capacity() < size) {
+            bytes = ByteBuffer.allocate(size);
+        }
+        bytes.clear().limit(size);
+        while (bytes.hasRemaining() && channel.read(bytes) != -1) {
+            // Keep reading.
+        }
+        return bytes.flip();
+    }
+
+    private CharBuffer decode(ByteBuffer input) throws IOException {
+        // UTF-8 does not decode to more chars than bytes.
+        if (chars.capacity() < input.remaining()) {
+            chars = CharBuffer.allocate(input.remaining());
+        }
+        chars.clear();
+        decoder.reset();
+        CoderResult result = decoder.decode(input, chars, true);
+        if (result.isUnderflow()) {
+            result = decoder.flush(chars);
+        }
+        if (!result.isUnderflow()) {
+            result.throwException();
+        }
+        return chars.flip();
+    }
+}
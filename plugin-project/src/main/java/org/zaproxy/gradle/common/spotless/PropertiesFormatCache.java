@@ -0,0 +1,284 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.commons.configuration2.PropertiesConfiguration;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+/**
+ * A persistent cache of the formatting of properties files.
+ *
+ * <p>The entries are keyed by the hash of the content, the engine, the version of the formatting,
+ * and the version of Commons Configuration, each stored in its own file. The files are written
+ * atomically and read without locks, so the cache can be shared by concurrent builds. The least
+ * recently used entries are removed when the cache exceeds its maximum size, which is checked at
+ * most once a day. The time an entry was last used is updated at most once a day, to not write to
+ * the cache on every hit.
+ *
+ * <p>The cache is best effort, errors reading or writing the entries are ignored.
+ */
+final class PropertiesFormatCache {
+
+    /**
+     * The version of the formatting, to be increased when the output changes.
+     *
+     * <p>Also in the state of the step, thus the key of the results in the build cache.
+     */
+    static final int FORMAT_VERSION = 1;
+
+    /**
+     * The version of Commons Configuration, which changes the output of its engine.
+     *
+     * <p>Also in the state of the step, thus the key of the results in the build cache.
+     */
+    static final String LIBRARY_VERSION = libraryVersion();
+
+    /**
+     * The minimum length of the contents cached, the shorter contents are formatted faster than
+     * looked up in the cache.
+     */
+    static final int MIN_CONTENT_LENGTH = 32 * 1024;
+
+    static final long DEFAULT_MAX_SIZE = 64L * 1024 * 1024;
+
+    private static final String PRUNE_MARKER = "last-prune";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Duration PRUNE_INTERVAL = Duration.ofDays(1);
+    private static final Duration LAST_USED_INTERVAL = Duration.ofDays(1);
+    private static final Duration STALE_TEMP_FILE_AGE = Duration.ofHours(1);
+
+    private static final byte UNCHANGED = '=';
+    private static final byte CHANGED = '>';
+
+    private final Path dir;
+    private final byte[] keyPrefix;
+    private final long maxSize;
+
+    PropertiesFormatCache(Path dir, Engine engine) {
+        this(dir, engine, LIBRARY_VERSION, DEFAULT_MAX_SIZE);
+    }
+
+    PropertiesFormatCache(Path dir, Engine engine, String libraryVersion, long maxSize) {
+        this.dir = dir.resolve("v" + FORMAT_VERSION);
+        this.keyPrefix =
+                (engine.name() + '\0' + libraryVersion + '\0').getBytes(StandardCharsets.UTF_8);
+        this.maxSize = maxSize;
+
+        if (isPruneDue()) {
+            prune();
+        }
+    }
+
+    /**
+     * Gets the entry of the given content.
+     *
+     * @param content the content of the properties file.
+     * @return the path to the entry, never {@code null}.
+     */
+    Path entry(String content) {
+        MessageDigest digest = createDigest();
+        digest.update(keyPrefix);
+        byte[] hash = digest.digest(content.getBytes(StandardCharsets.UTF_8));
+        String hex = HexFormat.of().formatHex(hash);
+        return dir.resolve(hex.substring(0, 2)).resolve(hex.substring(2));
+    }
+
+    private static String libraryVersion() {
+        Class<?> type = PropertiesConfiguration.class;
+        String version = type.getPackage().getImplementationVersion();
+        if (version != null) {
+            return version;
+        }
+        CodeSource source = type.getProtectionDomain().getCodeSource();
+        if (source != null && source.getLocation() != null) {
+            // The name of the JAR, which has the version.
+            String location = source.getLocation().getPath();
+            return location.substring(location.lastIndexOf('/', location.length() - 2) + 1);
+        }
+        return "unknown";
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gets the formatted content from the given entry.
+     *
+     * @param entry the entry, obtained from the content.
+     * @param content the content of the properties file.
+     * @return the formatted content, or {@code null} if not cached.
+     */
+    String get(Path entry, String content) {
+        byte[] data;
+        try {
+            FileTime lastUsed = Files.getLastModifiedTime(entry);
+            data = Files.readAllBytes(entry);
+            Instant now = Instant.now();
+            if (lastUsed.toInstant().plus(LAST_USED_INTERVAL).isBefore(now)) {
+                Files.setLastModifiedTime(entry, FileTime.from(now));
+            }
+        } catch (IOException e) {
+            return null;
+        }
+
+        if (data.length == 1 && data[0] == UNCHANGED) {
+            return content;
+        }
+        if (data.length != 0 && data[0] == CHANGED) {
+            return new String(data, 1, data.length - 1, StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /**
+     * Puts the formatted content into the given entry.
+     *
+     * @param entry the entry, obtained from the content.
+     * @param content the content of the properties file.
+     * @param formatted the formatted content.
+     */
+    void put(Path entry, String content, String formatted) {
+        byte[] data;
+        if (content.equals(formatted)) {
+            data = new byte[] {UNCHANGED};
+        } else {
+            byte[] bytes = formatted.getBytes(StandardCharsets.UTF_8);
+            data = new byte[bytes.length + 1];
+            data[0] = CHANGED;
+            System.arraycopy(bytes, 0, data, 1, bytes.length);
+        }
+
+        Path tempFile = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            tempFile = Files.createTempFile(entry.getParent(), null, TEMP_FILE_SUFFIX);
+            Files.write(tempFile, data);
+            Files.move(
+                    tempFile,
+                    entry,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteIfExists(tempFile);
+        }
+    }
+
+    private boolean isPruneDue() {
+        try {
+            Instant lastPrune = Files.getLastModifiedTime(dir.resolve(PRUNE_MARKER)).toInstant();
+            return lastPrune.plus(PRUNE_INTERVAL).isBefore(Instant.now());
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Removes the least recently used entries, if the cache exceeds its maximum size, and the
+     * temporary files left behind by interrupted writes.
+     */
+    void prune() {
+        Path marker = dir.resolve(PRUNE_MARKER);
+        try {
+            Files.createDirectories(dir);
+            Files.write(marker, new byte[0]);
+        } catch (IOException e) {
+            return;
+        }
+
+        record CacheFile(Path path, long size, FileTime lastModified) {}
+
+        Instant staleTempFileTime = Instant.now().minus(STALE_TEMP_FILE_AGE);
+        List<CacheFile> entries = new ArrayList<>();
+        long size = 0;
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (file.equals(marker)) {
+                    continue;
+                }
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                } catch (IOException e) {
+                    continue;
+                }
+                if (!attributes.isRegularFile()) {
+                    continue;
+                }
+                if (file.getFileName().toString().endsWith(TEMP_FILE_SUFFIX)) {
+                    if (attributes.lastModifiedTime().toInstant().isBefore(staleTempFileTime)) {
+                        deleteIfExists(file);
+                    }
+                    continue;
+                }
+                entries.add(new CacheFile(file, attributes.size(), attributes.lastModifiedTime()));
+                size += attributes.size();
+            }
+        } catch (IOException | RuntimeException e) {
+            return;
+        }
+
+        if (size <= maxSize) {
+            return;
+        }
+
+        entries.sort(Comparator.comparing(CacheFile::lastModified));
+        long targetSize = maxSize / 4 * 3;
+        for (CacheFile entry : entries) {
+            if (size <= targetSize) {
+                break;
+            }
+            deleteIfExists(entry.path());
+            size -= entry.size();
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Ignore, best effort.
+        }
+    }
+}
@@ -0,0 +1,742 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.DUPLICATE;
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.LEADING_SPACE_IN_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason;
+
+/**
+ * A single-pass formatter of properties files.
+ *
+ * <p>Produces the same output as the Commons Configuration based formatting of {@link
+ * FormatPropertiesStep}, reading the lines, continuations, escapes, and comments directly from the
+ * characters of the file, without creating the configuration, its layout, and the sorted key set.
+ * Each property is written once, along with its comments, to a block of the output which is then
+ * copied in the order of the keys.
+ *
+ * <p>Unlike Commons Configuration, {@code include} and {@code includeoptional} keys are handled as
+ * any other property.
+ */
+final class PropertiesFormatter {
+
+    private static final String SEPARATOR = " = ";
+
+    private static final int STATE_KEY = 0;
+    private static final int STATE_ESCAPED_KEY = 1;
+    private static final int STATE_SEPARATOR = 2;
+    private static final int STATE_WHITE_SPACES = 3;
+    private static final int STATE_VALUE = 4;
+
+    private final char[] buf;
+    private final int length;
+    private int pos;
+    private int lineStart;
+    private int lineEnd;
+
+    private int[] commentLines = new int[16];
+    private int commentLineCount;
+    private boolean headerChecked;
+    private StringBuilder header;
+
+    private final StringBuilder blocks;
+    private final List<Entry> entries = new ArrayList<>();
+
+    private final StringBuilder line = new StringBuilder();
+    private char[] lineBuf = new char[0];
+    private final StringBuilder key = new StringBuilder();
+    private final StringBuilder value = new StringBuilder();
+
+    private PropertiesFormatter(char[] buf, int length) {
+        this.buf = buf;
+        this.length = length;
+        this.blocks = new StringBuilder(length + 16);
+    }
+
+    @NotNull
+    static String format(String rawUnix) {
+        char[] chars = rawUnix.toCharArray();
+        return format(chars, chars.length);
+    }
+
+    /**
+     * Formats the given content, in a buffer that might be bigger than the content.
+     *
+     * @param chars the buffer with the content, starting at the first position.
+     * @param length the number of characters of the content.
+     * @return the formatted content.
+     */
+    @NotNull
+    static String format(char[] chars, int length) {
+        return new PropertiesFormatter(chars, length).format();
+    }
+
+    /**
+     * Sorts the properties of a chunk of a file, without validating them.
+     *
+     * <p>The chunk must end after a property, or at the end of the file, the header is read only
+     * from the first chunk and the trailing comments only from the last one.
+     *
+     * @param chars the characters of the chunk.
+     * @param length the number of characters of the chunk.
+     * @param first {@code true} if it's the first chunk of the file, {@code false} otherwise.
+     * @return the sorted chunk.
+     * @see LargePropertiesFormatter
+     */
+    static Chunk sortChunk(char[] chars, int length, boolean first) {
+        var formatter = new PropertiesFormatter(chars, length);
+        formatter.headerChecked = !first;
+        while (formatter.readProperty()) {
+            // Keep reading.
+        }
+        Entry[] sorted = formatter.entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing((Entry e) -> e.key));
+        var trailer = new StringBuilder();
+        formatter.appendCommentLines(trailer, 0, formatter.commentLineCount);
+        return new Chunk(formatter.header, sorted, formatter.blocks, trailer);
+    }
+
+    /**
+     * Tells whether or not the given content is already formatted, that is, formatting it would
+     * return the same content.
+     *
+     * <p>The content is checked in a single pass, without creating intermediate objects: the
+     * properties must be on a single line, sorted, with no duplicates, no leading spaces, using the
+     * {@code " = "} separator and the same escapes used when writing. Less common constructs, for
+     * example, Unicode escapes in the keys, are not considered formatted even if they are.
+     *
+     * @param content the content to check.
+     * @return {@code true} if the content is formatted, {@code false} otherwise.
+     */
+    static boolean isFormatted(CharSequence content) {
+        int length = content.length();
+        if (length == 0) {
+            return true;
+        }
+        if (content.charAt(length - 1) != '\n' || indexOf(content, '\r', 0) != -1) {
+            return false;
+        }
+
+        int previousKeyStart = -1;
+        int previousKeyEnd = -1;
+        int start = 0;
+        while (start < length) {
+            int end = indexOf(content, '\n', start);
+            if (!isCommentLine(content, start, end)) {
+                int keyEnd = findFormattedKeyEnd(content, start, end);
+                if (keyEnd == -1
+                        || !startsWith(content, SEPARATOR, keyEnd)
+                        || !isFormattedValue(content, keyEnd + SEPARATOR.length(), end)) {
+                    return false;
+                }
+                if (previousKeyStart != -1) {
+                    int cmp = compareKeys(content, previousKeyStart, previousKeyEnd, start, keyEnd);
+                    if (cmp >= 0) {
+                        return false;
+                    }
+                }
+                previousKeyStart = start;
+                previousKeyEnd = keyEnd;
+            }
+            start = end + 1;
+        }
+        return true;
+    }
+
+    private static int indexOf(CharSequence content, char c, int start) {
+        for (int i = start; i < content.length(); i++) {
+            if (content.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean startsWith(CharSequence content, String prefix, int offset) {
+        if (offset + prefix.length() > content.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (content.charAt(offset + i) != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCommentLine(CharSequence content, int start, int end) {
+        while (start < end && content.charAt(start) <= ' ') {
+            start++;
+        }
+        return start == end || content.charAt(start) == '#' || content.charAt(start) == '!';
+    }
+
+    private static int findFormattedKeyEnd(CharSequence content, int start, int end) {
+        int i = start;
+        while (i < end) {
+            char c = content.charAt(i);
+            if (c == '\\') {
+                if (i + 1 == end) {
+                    return -1;
+                }
+                char next = content.charAt(i + 1);
+                if (next == ' ') {
+                    if (i == start || i + 2 == end || isKeyEnd(content.charAt(i + 2))) {
+                        return -1;
+                    }
+                } else if (!isSeparator(next) && next != '\\') {
+                    return -1;
+                }
+                i += 2;
+            } else if (isKeyEnd(c)) {
+                break;
+            } else if (c < ' ') {
+                return -1;
+            } else {
+                i++;
+            }
+        }
+        if (i == start || isInclude(content, start, i)) {
+            return -1;
+        }
+        return i;
+    }
+
+    private static boolean isKeyEnd(char c) {
+        return isWhiteSpace(c) || isSeparator(c);
+    }
+
+    private static boolean isInclude(CharSequence content, int start, int end) {
+        int length = end - start;
+        if (length != 7 && length != 15) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(content.charAt(start + i)) != "includeoptional".charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isFormattedValue(CharSequence content, int start, int end) {
+        if (start < end && isWhiteSpace(content.charAt(start))) {
+            return false;
+        }
+        for (int i = start; i < end; i++) {
+            char c = content.charAt(i);
+            if (c == '\t' || c == '\f') {
+                return false;
+            }
+            if (c == '\\') {
+                if (++i == end) {
+                    return false;
+                }
+                switch (content.charAt(i)) {
+                    case '\\', 'n', 't', 'f', 'r':
+                        break;
+                    case ' ':
+                        if (i - 1 != start) {
+                            return false;
+                        }
+                        break;
+                    default:
+                        return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static int compareKeys(
+            CharSequence content, int start1, int end1, int start2, int end2) {
+        int i = start1;
+        int j = start2;
+        while (i < end1 && j < end2) {
+            char c1 = content.charAt(i);
+            if (c1 == '\\') {
+                c1 = content.charAt(++i);
+            }
+            char c2 = content.charAt(j);
+            if (c2 == '\\') {
+                c2 = content.charAt(++j);
+            }
+            if (c1 != c2) {
+                return c1 - c2;
+            }
+            i++;
+            j++;
+        }
+        return (i < end1 ? 1 : 0) - (j < end2 ? 1 : 0);
+    }
+
+    private String format() {
+        while (readProperty()) {
+            // Keep reading.
+        }
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, Comparator.comparing((Entry e) -> e.key));
+        validate(sorted);
+        return write(sorted);
+    }
+
+    private boolean readProperty() {
+        line.setLength(0);
+        boolean continued;
+        do {
+            if (!readLine()) {
+                if (line.length() == 0) {
+                    return false;
+                }
+                break;
+            }
+
+            int start = lineStart;
+            if (line.length() == 0) {
+                if (isCommentLine(buf, start, lineEnd)) {
+                    addCommentLine(start, lineEnd);
+                    continued = true;
+                    continue;
+                }
+            } else {
+                while (start < lineEnd && Character.isWhitespace(buf[start])) {
+                    start++;
+                }
+            }
+
+            continued = isContinued(buf, start, lineEnd);
+            if (!continued && line.length() == 0) {
+                parseProperty(buf, start, lineEnd);
+                return true;
+            }
+            line.append(buf, start, lineEnd - start - (continued ? 1 : 0));
+        } while (continued);
+
+        if (lineBuf.length < line.length()) {
+            lineBuf = new char[line.length()];
+        }
+        line.getChars(0, line.length(), lineBuf, 0);
+        parseProperty(lineBuf, 0, line.length());
+        return true;
+    }
+
+    private boolean readLine() {
+        if (pos >= length) {
+            return false;
+        }
+        lineStart = pos;
+        while (pos < length && buf[pos] != '\n' && buf[pos] != '\r') {
+            pos++;
+        }
+        lineEnd = pos;
+        if (pos < length) {
+            if (buf[pos] == '\r' && pos + 1 < length && buf[pos + 1] == '\n') {
+                pos++;
+            }
+            pos++;
+        }
+        return true;
+    }
+
+    static boolean isCommentLine(char[] chars, int start, int end) {
+        while (start < end && chars[start] <= ' ') {
+            start++;
+        }
+        return start == end || chars[start] == '#' || chars[start] == '!';
+    }
+
+    static boolean isContinued(char[] chars, int start, int end) {
+        int count = 0;
+        while (end > start && chars[end - 1] == '\\') {
+            count++;
+            end--;
+        }
+        return count % 2 != 0;
+    }
+
+    private void addCommentLine(int start, int end) {
+        if (commentLineCount * 2 == commentLines.length) {
+            commentLines = Arrays.copyOf(commentLines, commentLines.length * 2);
+        }
+        commentLines[commentLineCount * 2] = start;
+        commentLines[commentLineCount * 2 + 1] = end;
+        commentLineCount++;
+    }
+
+    private boolean isEmptyCommentLine(int index) {
+        return commentLines[index * 2] == commentLines[index * 2 + 1];
+    }
+
+    private void appendCommentLines(StringBuilder sb, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int start = commentLines[i * 2];
+            sb.append(buf, start, commentLines[i * 2 + 1] - start).append('\n');
+        }
+    }
+
+    private void parseProperty(char[] chars, int start, int end) {
+        key.setLength(0);
+        int valueStart = end;
+        int state = STATE_KEY;
+        for (int i = start; i < end && state != STATE_VALUE; i++) {
+            char c = chars[i];
+            switch (state) {
+                case STATE_KEY:
+                    if (c == '\\') {
+                        state = STATE_ESCAPED_KEY;
+                    } else if (isWhiteSpace(c)) {
+                        state = STATE_SEPARATOR;
+                    } else if (isSeparator(c)) {
+                        state = STATE_WHITE_SPACES;
+                    } else {
+                        key.append(c);
+                    }
+                    break;
+
+                case STATE_ESCAPED_KEY:
+                    if (!isSeparator(c) && !isWhiteSpace(c)) {
+                        key.append('\\');
+                    }
+                    key.append(c);
+                    state = STATE_KEY;
+                    break;
+
+                case STATE_SEPARATOR:
+                    if (isSeparator(c)) {
+                        state = STATE_WHITE_SPACES;
+                    } else if (!isWhiteSpace(c)) {
+                        valueStart = i;
+                        state = STATE_VALUE;
+                    }
+                    break;
+
+                case STATE_WHITE_SPACES:
+                default:
+                    if (!isWhiteSpace(c)) {
+                        valueStart = i;
+                        state = STATE_VALUE;
+                    }
+                    break;
+            }
+        }
+
+        String name = unescapeKey(key);
+        unescapeValue(chars, valueStart, end, value);
+
+        var entry = new Entry(name, entries.size());
+        entries.add(entry);
+        if (name.isEmpty()) {
+            entry.invalidName = value.toString().split("=", 2)[0].trim();
+        }
+
+        int idx = 0;
+        if (!headerChecked) {
+            headerChecked = true;
+            int index = commentLineCount - 1;
+            while (index >= 0 && !isEmptyCommentLine(index)) {
+                index--;
+            }
+            while (index >= 0 && isEmptyCommentLine(index)) {
+                index--;
+            }
+            if (index >= 0) {
+                header = new StringBuilder();
+                appendCommentLines(header, 0, index + 1);
+            }
+            idx = index + 1;
+        }
+        while (idx < commentLineCount && isEmptyCommentLine(idx)) {
+            idx++;
+            entry.blankLines++;
+        }
+
+        entry.blockStart = blocks.length();
+        appendCommentLines(blocks, idx, commentLineCount);
+        commentLineCount = 0;
+        escapeKey(name, blocks);
+        blocks.append(SEPARATOR);
+        escapeValue(value, blocks);
+        blocks.append('\n');
+        entry.blockEnd = blocks.length();
+    }
+
+    static boolean isWhiteSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\f';
+    }
+
+    static boolean isSeparator(char c) {
+        return c == '=' || c == ':';
+    }
+
+    private static String unescapeKey(StringBuilder key) {
+        int start = 0;
+        int end = key.length();
+        while (start < end && key.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && key.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (key.indexOf("\\", start) == -1) {
+            return key.substring(start, end);
+        }
+
+        var sb = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            char c = key.charAt(i);
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (i + 1 == end) {
+                break;
+            }
+
+            char next = key.charAt(i + 1);
+            if (isOctalDigit(next)) {
+                int digits = 1;
+                if (i + 2 < end && isOctalDigit(key.charAt(i + 2))) {
+                    digits++;
+                    if (i + 3 < end && next <= '3' && isOctalDigit(key.charAt(i + 3))) {
+                        digits++;
+                    }
+                }
+                sb.append((char) Integer.parseInt(key.substring(i + 1, i + 1 + digits), 8));
+                i += digits;
+            } else if (next == 'u') {
+                int j = i + 2;
+                while (j < end && key.charAt(j) == 'u') {
+                    j++;
+                }
+                if (j < end && key.charAt(j) == '+') {
+                    j++;
+                }
+                if (j + 4 > end) {
+                    throw new IllegalArgumentException(
+                            "Less than 4 hex digits in unicode value: '"
+                                    + key.substring(i, end)
+                                    + "' due to end of CharSequence");
+                }
+                sb.append(parseUnicode(key.substring(j, j + 4)));
+                i = j + 3;
+            } else {
+                sb.append(unescapeChar(next));
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    static boolean isOctalDigit(char c) {
+        return c >= '0' && c <= '7';
+    }
+
+    static char unescapeChar(char c) {
+        return switch (c) {
+            case 'b' -> '\b';
+            case 'n' -> '\n';
+            case 't' -> '\t';
+            case 'f' -> '\f';
+            case 'r' -> '\r';
+            default -> c;
+        };
+    }
+
+    static void unescapeValue(char[] chars, int start, int end, StringBuilder value) {
+        value.setLength(0);
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c != '\\') {
+                value.append(c);
+                continue;
+            }
+            if (++i == end) {
+                value.append('\\');
+                break;
+            }
+
+            c = chars[i];
+            switch (c) {
+                case 'r':
+                    value.append('\r');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'u':
+                    if (i + 4 < end) {
+                        value.append(parseUnicode(chars, i + 1));
+                    }
+                    i += 4;
+                    break;
+                default:
+                    value.append(c);
+                    break;
+            }
+        }
+    }
+
+    static char parseUnicode(char[] chars, int start) {
+        int result = 0;
+        for (int i = start; i < start + 4; i++) {
+            int digit = Character.digit(chars[i], 16);
+            if (digit == -1) {
+                return parseUnicode(new String(chars, start, 4));
+            }
+            result = result * 16 + digit;
+        }
+        return (char) result;
+    }
+
+    static char parseUnicode(String unicode) {
+        try {
+            return (char) Integer.parseInt(unicode, 16);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unable to parse unicode value: " + unicode, e);
+        }
+    }
+
+    static void escapeKey(CharSequence key, StringBuilder out) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (isSeparator(c) || isWhiteSpace(c) || c == '\\') {
+                out.append('\\');
+            }
+            out.append(c);
+        }
+    }
+
+    static void escapeValue(CharSequence value, StringBuilder out) {
+        if (value.length() != 0 && value.charAt(0) == ' ') {
+            out.append('\\');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                default:
+                    out.append(c);
+                    break;
+            }
+        }
+    }
+
+    private static void validate(Entry[] sorted) {
+        Map<InvalidPropertyReason, List<String>> invalidProperties =
+                new EnumMap<>(InvalidPropertyReason.class);
+        List<Entry> duplicates = new ArrayList<>();
+        for (int i = 0; i < sorted.length; i++) {
+            Entry entry = sorted[i];
+            if (entry.key.isEmpty()) {
+                if (i == 0) {
+                    invalidProperties
+                            .computeIfAbsent(LEADING_SPACE_IN_NAME, k -> new ArrayList<>())
+                            .add(entry.invalidName);
+                }
+            } else if (i + 1 < sorted.length
+                    && entry.key.equals(sorted[i + 1].key)
+                    && (i == 0 || !entry.key.equals(sorted[i - 1].key))) {
+                duplicates.add(entry);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            duplicates.sort(Comparator.comparingInt(e -> e.index));
+            List<String> keys = new ArrayList<>(duplicates.size());
+            duplicates.forEach(e -> keys.add(e.key));
+            invalidProperties.put(DUPLICATE, keys);
+        }
+        if (!invalidProperties.isEmpty()) {
+            throw new InvalidPropertiesException(invalidProperties);
+        }
+    }
+
+    private String write(Entry[] sorted) {
+        var out = new StringBuilder(blocks.length() + length / 8 + 16);
+        if (header != null) {
+            out.append(header);
+        }
+        boolean first = true;
+        for (Entry entry : sorted) {
+            if (first && header != null && entry.blankLines == 0) {
+                out.append('\n');
+            }
+            for (int i = 0; i < entry.blankLines; i++) {
+                out.append('\n');
+            }
+            out.append(blocks, entry.blockStart, entry.blockEnd);
+            first = false;
+        }
+        appendCommentLines(out, 0, commentLineCount);
+        return out.toString();
+    }
+
+    /**
+     * A chunk of a file, with its properties sorted.
+     *
+     * @param header the header, or {@code null} if none or not the first chunk.
+     * @param sorted the properties, sorted by key.
+     * @param blocks the blocks of the properties, with their comments.
+     * @param trailer the comments after the last property.
+     */
+    record Chunk(CharSequence header, Entry[] sorted, CharSequence blocks, CharSequence trailer) {}
+
+    static final class Entry {
+        final String key;
+        final int index;
+        int blankLines;
+        int blockStart;
+        int blockEnd;
+        String invalidName;
+
+        Entry(String key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,717 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.DUPLICATE;
+import static org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason.LEADING_SPACE_IN_NAME;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.InvalidPropertiesException.InvalidPropertyReason;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Finding;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Rule;
+
+/**
+ * A validator of properties files, that detects the duplicated keys and the keys with leading
+ * spaces in a single pass, along with the other {@link Rule rules} of the values and the keys
+ * missing from a base file.
+ *
+ * <p>The keys are tracked in an open-addressing hash set of spans of the input buffer, the keys
+ * are only copied, to a shared buffer, when they have escapes or span multiple lines, and
+ * materialized as strings only when invalid.
+ *
+ * <p>In {@link Mode#STRICT strict} mode, used before formatting, only the duplicated keys and the
+ * keys with leading spaces are reported and the invalid Unicode escapes throw an exception, like
+ * the formatters. In {@link Mode#TRANSLATION translation} mode only the differences to the base
+ * file are reported, using the placeholders of each value, recorded along with its key.
+ */
+final class PropertiesKeyValidator {
+
+    private static final int ENTRY_START = 0;
+    private static final int ENTRY_END = 1;
+    private static final int ENTRY_HASH = 2;
+    private static final int ENTRY_FLAGS = 3;
+    private static final int ENTRY_PLACEHOLDERS = 4;
+    private static final int ENTRY_SIZE = 5;
+
+    private static final int FLAG_COPIED = 1;
+    private static final int FLAG_DUPLICATED = 2;
+
+    /** The bit of the placeholders with an index too big, or not a number, for the others. */
+    private static final int OTHER_PLACEHOLDER = 31;
+
+    private final char[] buf;
+    private final int length;
+    private final Mode mode;
+    private final boolean strict;
+    private final PropertiesKeyValidator base;
+    private boolean[] baseFound;
+    private int pos;
+    private int lineStart;
+    private int lineEnd;
+    private int lineNumber;
+    private int propertyLine;
+
+    private char[] lineBuf = new char[64];
+    private int lineBufLength;
+
+    private char[] copies = new char[64];
+    private int copiesLength;
+
+    private int[] entries = new int[64 * ENTRY_SIZE];
+    private int entryCount;
+    private int[] table = new int[128];
+
+    private char[] currentKeyChars;
+    private int currentKeyStart;
+    private int currentKeyEnd;
+    private String currentKeyName;
+    private int currentEntry;
+    private int currentBaseEntry;
+
+    private List<Finding> findings;
+    private String firstInvalidName;
+
+    private PropertiesKeyValidator(
+            char[] buf, int offset, int length, Mode mode, PropertiesKeyValidator base) {
+        this.buf = buf;
+        this.pos = offset;
+        this.length = offset + length;
+        this.mode = mode;
+        this.strict = mode == Mode.STRICT;
+        this.base = base;
+    }
+
+    /**
+     * Validates the given properties.
+     *
+     * @param chars the buffer with the properties.
+     * @param offset the offset of the properties in the buffer.
+     * @param length the number of characters of the properties.
+     * @param base the keys of the base file, or {@code null} if none.
+     * @return the findings, sorted by line, never {@code null}.
+     */
+    static List<Finding> validate(
+            char[] chars, int offset, int length, PropertiesKeyValidator base) {
+        var validator = new PropertiesKeyValidator(chars, offset, length, Mode.VALIDATE, base);
+        validator.scan();
+        return validator.findings == null ? List.of() : validator.findings;
+    }
+
+    /**
+     * Validates the given translation against the keys of its base file.
+     *
+     * <p>Reports the keys not in the base file, the values with placeholders different from the
+     * base file, and, after those, the keys of the base file missing from the translation, with
+     * no line, in the order of the base file.
+     *
+     * @param chars the buffer with the translation.
+     * @param offset the offset of the translation in the buffer.
+     * @param length the number of characters of the translation.
+     * @param base the keys of the base file.
+     * @return the findings, never {@code null}.
+     */
+    static List<Finding> validateTranslation(
+            char[] chars, int offset, int length, PropertiesKeyValidator base) {
+        var validator = new PropertiesKeyValidator(chars, offset, length, Mode.TRANSLATION, base);
+        validator.baseFound = new boolean[base.entryCount];
+        validator.scan();
+        for (int i = 0; i < base.entryCount; i++) {
+            if (!validator.baseFound[i]) {
+                validator.propertyLine = 0;
+                validator.setKey(base.key(i));
+                validator.addFinding(Rule.MISSING_IN_TRANSLATION);
+            }
+        }
+        return validator.findings == null ? List.of() : validator.findings;
+    }
+
+    /**
+     * Reads the keys of the given properties, to validate other files against them.
+     *
+     * @param chars the buffer with the properties.
+     * @param offset the offset of the properties in the buffer.
+     * @param length the number of characters of the properties.
+     * @return the validator, with the keys.
+     */
+    static PropertiesKeyValidator readKeys(char[] chars, int offset, int length) {
+        var validator = new PropertiesKeyValidator(chars, offset, length, Mode.VALIDATE, null);
+        validator.scan();
+        return validator;
+    }
+
+    int size() {
+        return entryCount;
+    }
+
+    /**
+     * Validates that the given properties can be formatted.
+     *
+     * @param rawUnix the properties.
+     * @throws InvalidPropertiesException if there are invalid properties.
+     * @throws IllegalArgumentException if the properties could not be parsed.
+     */
+    static void validateFormattable(String rawUnix) {
+        char[] chars = rawUnix.toCharArray();
+        validateFormattable(chars, 0, chars.length);
+    }
+
+    /**
+     * Validates that the given properties, in a buffer, can be formatted.
+     *
+     * @param chars the buffer with the properties.
+     * @param offset the offset of the properties in the buffer.
+     * @param length the number of characters of the properties.
+     * @throws InvalidPropertiesException if there are invalid properties.
+     * @throws IllegalArgumentException if the properties could not be parsed.
+     */
+    static void validateFormattable(char[] chars, int offset, int length) {
+        var validator = new PropertiesKeyValidator(chars, offset, length, Mode.STRICT, null);
+        validator.scan();
+        if (validator.findings == null) {
+            return;
+        }
+
+        Map<InvalidPropertyReason, List<String>> invalidProperties =
+                new EnumMap<>(InvalidPropertyReason.class);
+        if (validator.firstInvalidName != null) {
+            invalidProperties.put(LEADING_SPACE_IN_NAME, List.of(validator.firstInvalidName));
+        }
+        List<String> duplicates = validator.duplicatesInOrder();
+        if (!duplicates.isEmpty()) {
+            invalidProperties.put(DUPLICATE, duplicates);
+        }
+        throw new InvalidPropertiesException(invalidProperties);
+    }
+
+    private List<String> duplicatesInOrder() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < entryCount; i++) {
+            if ((entries[i * ENTRY_SIZE + ENTRY_FLAGS] & FLAG_DUPLICATED) != 0) {
+                keys.add(key(i));
+            }
+        }
+        return keys;
+    }
+
+    private void scan() {
+        while (readProperty()) {
+            // Keep reading.
+        }
+    }
+
+    private boolean readProperty() {
+        lineBufLength = 0;
+        boolean continued;
+        do {
+            if (!readLine()) {
+                if (lineBufLength == 0) {
+                    return false;
+                }
+                break;
+            }
+
+            int start = lineStart;
+            if (lineBufLength == 0) {
+                if (PropertiesFormatter.isCommentLine(buf, start, lineEnd)) {
+                    continued = true;
+                    continue;
+                }
+                propertyLine = lineNumber;
+            } else {
+                while (start < lineEnd && Character.isWhitespace(buf[start])) {
+                    start++;
+                }
+            }
+
+            continued = PropertiesFormatter.isContinued(buf, start, lineEnd);
+            if (!continued && lineBufLength == 0) {
+                validateProperty(buf, start, lineEnd);
+                return true;
+            }
+            appendLine(start, lineEnd - start - (continued ? 1 : 0));
+        } while (continued);
+
+        validateProperty(lineBuf, 0, lineBufLength);
+        return true;
+    }
+
+    private boolean readLine() {
+        if (pos >= length) {
+            return false;
+        }
+        lineStart = pos;
+        lineNumber++;
+        while (pos < length && buf[pos] != '\n' && buf[pos] != '\r') {
+            pos++;
+        }
+        lineEnd = pos;
+        if (pos < length) {
+            if (buf[pos] == '\r' && pos + 1 < length && buf[pos + 1] == '\n') {
+                pos++;
+            }
+            pos++;
+        }
+        return true;
+    }
+
+    private void appendLine(int start, int count) {
+        if (lineBufLength + count > lineBuf.length) {
+            lineBuf = Arrays.copyOf(lineBuf, Math.max(lineBufLength + count, lineBuf.length * 2));
+        }
+        System.arraycopy(buf, start, lineBuf, lineBufLength, count);
+        lineBufLength += count;
+    }
+
+    private void validateProperty(char[] chars, int start, int end) {
+        boolean escaped = false;
+        int keyEnd = start;
+        while (keyEnd < end) {
+            char c = chars[keyEnd];
+            if (c == '\\') {
+                escaped = true;
+                keyEnd += 2;
+            } else if (PropertiesFormatter.isWhiteSpace(c) || PropertiesFormatter.isSeparator(c)) {
+                break;
+            } else {
+                keyEnd++;
+            }
+        }
+        keyEnd = Math.min(keyEnd, end);
+        int valueStart = findValueStart(chars, keyEnd, end);
+        validateKey(chars, start, keyEnd, escaped, valueStart, end);
+        validateValue(chars, valueStart, end);
+    }
+
+    private void validateKey(
+            char[] chars, int start, int keyEnd, boolean escaped, int valueStart, int end) {
+        int copyStart = copiesLength;
+        currentEntry = -1;
+        currentBaseEntry = -1;
+        try {
+            addKey(chars, start, keyEnd, escaped, valueStart, end);
+        } catch (IllegalArgumentException e) {
+            if (strict) {
+                throw e;
+            }
+            copiesLength = copyStart;
+            setKey(new String(chars, start, keyEnd - start).trim());
+            addFinding(Rule.INVALID_UNICODE_ESCAPE);
+        }
+    }
+
+    private void addKey(
+            char[] chars, int start, int keyEnd, boolean escaped, int valueStart, int end) {
+        if (escaped) {
+            addCopiedKey(chars, start, keyEnd, valueStart, end);
+        } else {
+            while (start < keyEnd && chars[start] <= ' ') {
+                start++;
+            }
+            while (keyEnd > start && chars[keyEnd - 1] <= ' ') {
+                keyEnd--;
+            }
+            if (start == keyEnd) {
+                addInvalidName(chars, valueStart, end);
+            } else if (chars == buf) {
+                add(start, keyEnd, 0);
+            } else {
+                int copyStart = copy(chars, start, keyEnd - start);
+                add(copyStart, copiesLength, FLAG_COPIED);
+            }
+        }
+    }
+
+    private static int findValueStart(char[] chars, int keyEnd, int end) {
+        if (keyEnd == end) {
+            return end;
+        }
+        boolean separator = PropertiesFormatter.isSeparator(chars[keyEnd]);
+        for (int i = keyEnd + 1; i < end; i++) {
+            char c = chars[i];
+            if (!separator && PropertiesFormatter.isSeparator(c)) {
+                separator = true;
+            } else if (!PropertiesFormatter.isWhiteSpace(c)) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private void validateValue(char[] chars, int start, int end) {
+        boolean invalidEscape = false;
+        boolean quoted = false;
+        boolean unbalanced = false;
+        int depth = 0;
+        int placeholders = 0;
+        for (int i = start; i < end; i++) {
+            char c = chars[i];
+            if (c == '\\') {
+                if (++i == end) {
+                    break;
+                }
+                c = chars[i];
+                if (c == 'u') {
+                    if (i + 4 < end) {
+                        invalidEscape |= !isValidUnicode(chars, i + 1);
+                    }
+                    i += 4;
+                    continue;
+                }
+            }
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted && c == '{') {
+                if (depth++ == 0) {
+                    placeholders |= 1 << placeholderIndex(chars, i + 1, end);
+                }
+            } else if (!quoted && c == '}') {
+                if (depth == 0) {
+                    unbalanced = true;
+                } else {
+                    depth--;
+                }
+            }
+        }
+
+        if (currentEntry != -1) {
+            entries[currentEntry * ENTRY_SIZE + ENTRY_PLACEHOLDERS] = placeholders;
+        }
+        if (strict) {
+            return;
+        }
+        if (currentBaseEntry != -1
+                && base.entries[currentBaseEntry * ENTRY_SIZE + ENTRY_PLACEHOLDERS]
+                        != placeholders) {
+            addFinding(Rule.PLACEHOLDER_MISMATCH);
+        }
+        if (invalidEscape) {
+            addFinding(Rule.INVALID_UNICODE_ESCAPE);
+        }
+        if (unbalanced || depth != 0) {
+            addFinding(Rule.UNBALANCED_PLACEHOLDER);
+        }
+        if (hasTrailingWhiteSpace(chars, start, end)) {
+            addFinding(Rule.TRAILING_WHITESPACE);
+        }
+    }
+
+    private static int placeholderIndex(char[] chars, int start, int end) {
+        int i = start;
+        while (i < end && PropertiesFormatter.isWhiteSpace(chars[i])) {
+            i++;
+        }
+        int index = 0;
+        int digits = 0;
+        for (; i < end && chars[i] >= '0' && chars[i] <= '9'; i++, digits++) {
+            index = index * 10 + chars[i] - '0';
+            if (index >= OTHER_PLACEHOLDER) {
+                return OTHER_PLACEHOLDER;
+            }
+        }
+        return digits == 0 ? OTHER_PLACEHOLDER : index;
+    }
+
+    private boolean isValidUnicode(char[] chars, int start) {
+        try {
+            PropertiesFormatter.parseUnicode(chars, start);
+            return true;
+        } catch (IllegalArgumentException e) {
+            if (strict) {
+                throw e;
+            }
+            return false;
+        }
+    }
+
+    private static boolean hasTrailingWhiteSpace(char[] chars, int start, int end) {
+        if (end == start || !PropertiesFormatter.isWhiteSpace(chars[end - 1])) {
+            return false;
+        }
+        int backslashes = 0;
+        for (int i = end - 2; i >= start && chars[i] == '\\'; i--) {
+            backslashes++;
+        }
+        return backslashes % 2 == 0;
+    }
+
+    private void addCopiedKey(char[] chars, int start, int keyEnd, int valueStart, int end) {
+        int copyStart = copiesLength;
+        ensureCopiesCapacity(keyEnd - start);
+        for (int i = start; i < keyEnd; i++) {
+            char c = chars[i];
+            if (c != '\\') {
+                copies[copiesLength++] = c;
+            } else if (i + 1 < keyEnd) {
+                char next = chars[++i];
+                if (!PropertiesFormatter.isSeparator(next)
+                        && !PropertiesFormatter.isWhiteSpace(next)) {
+                    copies[copiesLength++] = '\\';
+                }
+                copies[copiesLength++] = next;
+            }
+        }
+
+        int copyEnd = copiesLength;
+        while (copyStart < copyEnd && copies[copyStart] <= ' ') {
+            copyStart++;
+        }
+        while (copyEnd > copyStart && copies[copyEnd - 1] <= ' ') {
+            copyEnd--;
+        }
+        copyEnd = unescapeKey(copyStart, copyEnd);
+        copiesLength = copyEnd;
+        if (copyStart == copyEnd) {
+            addInvalidName(chars, valueStart, end);
+            return;
+        }
+        add(copyStart, copyEnd, FLAG_COPIED);
+    }
+
+    private int unescapeKey(int start, int end) {
+        int w = start;
+        for (int i = start; i < end; i++) {
+            char c = copies[i];
+            if (c != '\\') {
+                copies[w++] = c;
+                continue;
+            }
+            if (i + 1 == end) {
+                break;
+            }
+
+            char next = copies[i + 1];
+            if (PropertiesFormatter.isOctalDigit(next)) {
+                int digits = 1;
+                int value = next - '0';
+                if (i + 2 < end && PropertiesFormatter.isOctalDigit(copies[i + 2])) {
+                    digits++;
+                    value = value * 8 + copies[i + 2] - '0';
+                    if (i + 3 < end
+                            && next <= '3'
+                            && PropertiesFormatter.isOctalDigit(copies[i + 3])) {
+                        digits++;
+                        value = value * 8 + copies[i + 3] - '0';
+                    }
+                }
+                copies[w++] = (char) value;
+                i += digits;
+            } else if (next == 'u') {
+                int j = i + 2;
+                while (j < end && copies[j] == 'u') {
+                    j++;
+                }
+                if (j < end && copies[j] == '+') {
+                    j++;
+                }
+                if (j + 4 > end) {
+                    throw new IllegalArgumentException(
+                            "Less than 4 hex digits in unicode value: '"
+                                    + new String(copies, i, end - i)
+                                    + "' due to end of CharSequence");
+                }
+                copies[w++] = PropertiesFormatter.parseUnicode(copies, j);
+                i = j + 3;
+            } else {
+                copies[w++] = PropertiesFormatter.unescapeChar(next);
+                i++;
+            }
+        }
+        return w;
+    }
+
+    private int copy(char[] chars, int start, int count) {
+        ensureCopiesCapacity(count);
+        int copyStart = copiesLength;
+        System.arraycopy(chars, start, copies, copyStart, count);
+        copiesLength += count;
+        return copyStart;
+    }
+
+    private void ensureCopiesCapacity(int count) {
+        if (copiesLength + count > copies.length) {
+            copies = Arrays.copyOf(copies, Math.max(copiesLength + count, copies.length * 2));
+        }
+    }
+
+    private void addInvalidName(char[] chars, int valueStart, int end) {
+        var value = new StringBuilder();
+        try {
+            PropertiesFormatter.unescapeValue(chars, valueStart, end, value);
+        } catch (IllegalArgumentException e) {
+            if (strict) {
+                throw e;
+            }
+            value.setLength(0);
+            value.append(chars, valueStart, end - valueStart);
+        }
+        String name = value.toString().split("=", 2)[0].trim();
+        if (firstInvalidName == null) {
+            firstInvalidName = name;
+        }
+        setKey(name);
+        addFinding(Rule.LEADING_SPACE_IN_NAME);
+    }
+
+    private void add(int start, int end, int flags) {
+        char[] chars = (flags & FLAG_COPIED) != 0 ? copies : buf;
+        currentKeyChars = chars;
+        currentKeyStart = start;
+        currentKeyEnd = end;
+        currentKeyName = null;
+        int hash = hash(chars, start, end);
+
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = (entry - 1) * ENTRY_SIZE;
+            if (entries[index + ENTRY_HASH] == hash && keyEquals(index, chars, start, end)) {
+                entries[index + ENTRY_FLAGS] |= FLAG_DUPLICATED;
+                currentEntry = entry - 1;
+                addFinding(Rule.DUPLICATE);
+                if ((flags & FLAG_COPIED) != 0) {
+                    copiesLength = start;
+                }
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        if (entryCount * ENTRY_SIZE == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        int index = entryCount * ENTRY_SIZE;
+        entries[index + ENTRY_START] = start;
+        entries[index + ENTRY_END] = end;
+        entries[index + ENTRY_HASH] = hash;
+        entries[index + ENTRY_FLAGS] = flags;
+        entries[index + ENTRY_PLACEHOLDERS] = 0;
+        currentEntry = entryCount;
+        table[slot] = ++entryCount;
+        if (entryCount * 2 > table.length) {
+            rehash();
+        }
+
+        if (base != null) {
+            currentBaseEntry = base.find(chars, start, end, hash);
+            if (currentBaseEntry == -1) {
+                addFinding(Rule.MISSING_IN_BASE);
+            } else if (baseFound != null) {
+                baseFound[currentBaseEntry] = true;
+            }
+        }
+    }
+
+    private static int hash(char[] chars, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        return hash;
+    }
+
+    private int find(char[] chars, int start, int end, int hash) {
+        int mask = table.length - 1;
+        int slot = mix(hash) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            int index = (entry - 1) * ENTRY_SIZE;
+            if (entries[index + ENTRY_HASH] == hash && keyEquals(index, chars, start, end)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private boolean keyEquals(int index, char[] chars, int start, int end) {
+        char[] keyChars = (entries[index + ENTRY_FLAGS] & FLAG_COPIED) != 0 ? copies : buf;
+        return Arrays.equals(
+                keyChars,
+                entries[index + ENTRY_START],
+                entries[index + ENTRY_END],
+                chars,
+                start,
+                end);
+    }
+
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int i = 0; i < entryCount; i++) {
+            int slot = mix(entries[i * ENTRY_SIZE + ENTRY_HASH]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private String key(int entry) {
+        int index = entry * ENTRY_SIZE;
+        char[] chars = (entries[index + ENTRY_FLAGS] & FLAG_COPIED) != 0 ? copies : buf;
+        int start = entries[index + ENTRY_START];
+        return new String(chars, start, entries[index + ENTRY_END] - start);
+    }
+
+    private void setKey(String name) {
+        currentKeyChars = null;
+        currentKeyName = name;
+    }
+
+    private void addFinding(Rule rule) {
+        if (!mode.reports(rule)) {
+            return;
+        }
+        if (findings == null) {
+            findings = new ArrayList<>();
+        }
+        if (currentKeyName == null) {
+            currentKeyName =
+                    new String(currentKeyChars, currentKeyStart, currentKeyEnd - currentKeyStart);
+        }
+        findings.add(new Finding(rule, currentKeyName, propertyLine));
+    }
+
+    /** The modes of the validation, which define the rules reported. */
+    private enum Mode {
+        STRICT,
+        VALIDATE,
+        TRANSLATION;
+
+        boolean reports(Rule rule) {
+            boolean translationRule =
+                    rule == Rule.MISSING_IN_TRANSLATION || rule == Rule.PLACEHOLDER_MISMATCH;
+            return switch (this) {
+                case STRICT, VALIDATE -> !translationRule;
+                case TRANSLATION -> translationRule || rule == Rule.MISSING_IN_BASE;
+            };
+        }
+    }
+}
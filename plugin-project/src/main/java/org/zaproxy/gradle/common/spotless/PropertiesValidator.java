@@ -0,0 +1,237 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Validates properties files, reporting all the invalid properties instead of failing on the
+ * first.
+ *
+ * <p>The properties are invalid for the same reasons that prevent them from being formatted by
+ * {@link FormatPropertiesStep}, {@link Rule#DUPLICATE} and {@link Rule#LEADING_SPACE_IN_NAME},
+ * and for the other {@link Rule rules}, checked in the same pass over the content.
+ *
+ * @since 0.6.0
+ */
+public final class PropertiesValidator {
+
+    private PropertiesValidator() {}
+
+    /**
+     * Validates the given content of a properties file.
+     *
+     * @param content the content to validate.
+     * @return the findings, sorted by line, never {@code null}.
+     */
+    public static List<Finding> validate(String content) {
+        return validate(content, null);
+    }
+
+    /**
+     * Validates the given content of a properties file, against the keys of its base file.
+     *
+     * <p>The keys that are not in the base file are reported with {@link Rule#MISSING_IN_BASE}.
+     *
+     * @param content the content to validate.
+     * @param baseKeys the keys of the base file, or {@code null} to not check the keys.
+     * @return the findings, sorted by line, never {@code null}.
+     * @see #readKeys(String)
+     */
+    public static List<Finding> validate(String content, Keys baseKeys) {
+        char[] chars = content.toCharArray();
+        return validate(chars, 0, chars.length, baseKeys);
+    }
+
+    /**
+     * Validates the given content of a properties file, in a buffer.
+     *
+     * <p>The keys are tracked as spans of the buffer, only the keys with escapes or in multiple
+     * lines are copied, and only the invalid ones are converted to strings.
+     *
+     * @param chars the buffer with the content.
+     * @param offset the offset of the content in the buffer.
+     * @param length the number of characters of the content.
+     * @return the findings, sorted by line, never {@code null}.
+     * @throws IndexOutOfBoundsException if the offset or length are out of the buffer.
+     */
+    public static List<Finding> validate(char[] chars, int offset, int length) {
+        return validate(chars, offset, length, null);
+    }
+
+    /**
+     * Validates the given content of a properties file, in a buffer, against the keys of its base
+     * file.
+     *
+     * @param chars the buffer with the content.
+     * @param offset the offset of the content in the buffer.
+     * @param length the number of characters of the content.
+     * @param baseKeys the keys of the base file, or {@code null} to not check the keys.
+     * @return the findings, sorted by line, never {@code null}.
+     * @throws IndexOutOfBoundsException if the offset or length are out of the buffer.
+     */
+    public static List<Finding> validate(char[] chars, int offset, int length, Keys baseKeys) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        return PropertiesKeyValidator.validate(
+                chars, offset, length, baseKeys == null ? null : baseKeys.keys);
+    }
+
+    /**
+     * Validates the given content of a translation against the keys of its base file.
+     *
+     * <p>Reports only the differences to the base file, the keys not in the base file, with {@link
+     * Rule#MISSING_IN_BASE}, the values whose placeholders are different from the ones of the base
+     * file, with {@link Rule#PLACEHOLDER_MISMATCH}, and the keys of the base file missing from the
+     * translation, with {@link Rule#MISSING_IN_TRANSLATION}.
+     *
+     * @param content the content of the translation.
+     * @param baseKeys the keys of the base file.
+     * @return the findings, sorted by line, followed by the keys missing from the translation, in
+     *     the order of the base file, never {@code null}.
+     * @see #readKeys(String)
+     */
+    public static List<Finding> validateTranslation(String content, Keys baseKeys) {
+        char[] chars = content.toCharArray();
+        return validateTranslation(chars, 0, chars.length, baseKeys);
+    }
+
+    /**
+     * Validates the given content of a translation, in a buffer, against the keys of its base
+     * file.
+     *
+     * @param chars the buffer with the content.
+     * @param offset the offset of the content in the buffer.
+     * @param length the number of characters of the content.
+     * @param baseKeys the keys of the base file.
+     * @return the findings, sorted by line, followed by the keys missing from the translation, in
+     *     the order of the base file, never {@code null}.
+     * @throws IndexOutOfBoundsException if the offset or length are out of the buffer.
+     * @see #validateTranslation(String, Keys)
+     */
+    public static List<Finding> validateTranslation(
+            char[] chars, int offset, int length, Keys baseKeys) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        Objects.requireNonNull(baseKeys, "The base keys must not be null.");
+        return PropertiesKeyValidator.validateTranslation(chars, offset, length, baseKeys.keys);
+    }
+
+    /**
+     * Reads the keys of the given content of a properties file, for example, of the base file of
+     * the translations.
+     *
+     * @param content the content of the properties file.
+     * @return the keys, never {@code null}.
+     */
+    public static Keys readKeys(String content) {
+        char[] chars = content.toCharArray();
+        return new Keys(PropertiesKeyValidator.readKeys(chars, 0, chars.length));
+    }
+
+    /**
+     * The keys of a properties file, kept as spans of its content, along with the placeholders of
+     * their values.
+     *
+     * <p>Can be shared by concurrent validations, once read.
+     */
+    public static final class Keys {
+
+        private final PropertiesKeyValidator keys;
+
+        private Keys(PropertiesKeyValidator keys) {
+            this.keys = keys;
+        }
+
+        /**
+         * Gets the number of keys.
+         *
+         * @return the number of keys.
+         */
+        public int size() {
+            return keys.size();
+        }
+    }
+
+    /** The rules of the validation. */
+    public enum Rule {
+        /** The property is defined more than once. */
+        DUPLICATE("Duplicate property"),
+
+        /** The name of the property starts with a space. */
+        LEADING_SPACE_IN_NAME("Leading space in property name"),
+
+        /** The property has a Unicode escape without four hexadecimal digits. */
+        INVALID_UNICODE_ESCAPE("Invalid Unicode escape"),
+
+        /**
+         * The value of the property has unbalanced {@code MessageFormat} braces, outside quotes.
+         */
+        UNBALANCED_PLACEHOLDER("Unbalanced placeholder braces"),
+
+        /** The value of the property ends with unescaped whitespace. */
+        TRAILING_WHITESPACE("Trailing whitespace in property value"),
+
+        /** The property is not in the base file, for example, a translation no longer used. */
+        MISSING_IN_BASE("Property missing from base file"),
+
+        /** The property of the base file is not in the translation. */
+        MISSING_IN_TRANSLATION("Property missing from translation"),
+
+        /**
+         * The value of the property has different {@code MessageFormat} placeholders than the
+         * value in the base file.
+         */
+        PLACEHOLDER_MISMATCH("Placeholders different from base file");
+
+        private final String description;
+
+        Rule(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Gets the description of the rule.
+         *
+         * @return the description, never {@code null}.
+         */
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    /**
+     * A finding of the validation.
+     *
+     * @param rule the rule violated.
+     * @param key the key of the property.
+     * @param line the line of the property, starting at 1, or 0 if not in the file.
+     */
+    public record Finding(Rule rule, String key, int line) {
+
+        /**
+         * Gets the message of the finding.
+         *
+         * @return the message, never {@code null}.
+         */
+        public String getMessage() {
+            return rule.getDescription() + ": " + key;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+/**
+ * A formatter of properties files that can be reused, and called concurrently, to format many
+ * contents.
+ *
+ * <p>Produces the same output as {@link FormatPropertiesStep#format(String, Engine)}, but instead
+ * of creating the buffers and the formatting objects for each content, they are taken from a small
+ * pool and returned to it after each content. The pool keeps at most one set per available
+ * processor, and it's not tied to the threads, so nothing is retained by the threads once the
+ * formatter is no longer used.
+ *
+ * @since 0.6.0
+ */
+public final class ReusablePropertiesFormatter {
+
+    private static final int MAX_POOLED_CONTEXTS = Runtime.getRuntime().availableProcessors();
+
+    private final Engine engine;
+    private final BlockingQueue<FormattingContext> contexts;
+
+    private ReusablePropertiesFormatter(Engine engine, int maxPooledContexts) {
+        this.engine = engine;
+        this.contexts = new ArrayBlockingQueue<>(maxPooledContexts);
+    }
+
+    /**
+     * Creates a new {@code ReusablePropertiesFormatter}, using the given engine.
+     *
+     * @param engine the engine that formats the properties.
+     * @return the formatter.
+     */
+    public static ReusablePropertiesFormatter create(Engine engine) {
+        return create(engine, MAX_POOLED_CONTEXTS);
+    }
+
+    static ReusablePropertiesFormatter create(Engine engine, int maxPooledContexts) {
+        Objects.requireNonNull(engine, "The engine must not be null.");
+        return new ReusablePropertiesFormatter(engine, maxPooledContexts);
+    }
+
+    /**
+     * Gets the engine that formats the properties.
+     *
+     * @return the engine, never {@code null}.
+     */
+    public Engine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Formats the given content of a properties file.
+     *
+     * @param rawUnix the content, with Unix line endings.
+     * @return the formatted content, the same instance if already formatted.
+     * @throws Exception if the content has invalid properties or could not be parsed.
+     */
+    public String format(String rawUnix) throws Exception {
+        if (PropertiesFormatter.isFormatted(rawUnix)) {
+            return rawUnix;
+        }
+        return formatNotFormatted(rawUnix);
+    }
+
+    /**
+     * Formats the given content of a properties file, already known to not be formatted, without
+     * checking it again.
+     *
+     * @param rawUnix the content, with Unix line endings.
+     * @return the formatted content.
+     * @throws Exception if the content has invalid properties or could not be parsed.
+     */
+    String formatNotFormatted(String rawUnix) throws Exception {
+        FormattingContext context = contexts.poll();
+        if (context == null) {
+            context = new FormattingContext(engine);
+        }
+        try {
+            return context.format(rawUnix);
+        } finally {
+            // Dropped if the pool is already full.
+            contexts.offer(context);
+        }
+    }
+
+    int getPooledContexts() {
+        return contexts.size();
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Finding;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Keys;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Rule;
+
+/**
+ * A task that checks the consistency of the translations, for example, {@code
+ * Messages_pt_PT.properties}, with their base file in the same directory, for example, {@code
+ * Messages.properties}.
+ *
+ * <p>The keys of each base file are read once, into an index shared by the checks of all its
+ * translations, which are done in parallel, as many as allowed by {@code org.gradle.workers.max}.
+ * The checks report the keys missing from the translation or from the base file, and the values
+ * whose {@code MessageFormat} placeholders are different from the base file.
+ *
+ * <p>The findings are written to a SARIF report and the task fails once at the end, if there are
+ * any.
+ *
+ * @since 0.6.0
+ */
+public abstract class CheckTranslations extends DefaultTask {
+
+    private static final String TOOL_NAME = "zap-translations-checker";
+
+    public CheckTranslations() {
+        getRules()
+                .convention(
+                        EnumSet.of(
+                                Rule.MISSING_IN_BASE,
+                                Rule.MISSING_IN_TRANSLATION,
+                                Rule.PLACEHOLDER_MISMATCH));
+        getMaxParallelism().convention(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Gets the properties files, the translations without a base file are ignored.
+     *
+     * @return the properties files.
+     */
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSource();
+
+    @Internal
+    public abstract DirectoryProperty getBaseDirectory();
+
+    /**
+     * Gets the rules of the check, any of {@link Rule#MISSING_IN_BASE}, {@link
+     * Rule#MISSING_IN_TRANSLATION}, and {@link Rule#PLACEHOLDER_MISMATCH}.
+     *
+     * <p>Defaults to all those rules.
+     *
+     * @return the property with the rules.
+     */
+    @Input
+    public abstract SetProperty<Rule> getRules();
+
+    /**
+     * Gets the maximum number of translations checked in parallel.
+     *
+     * <p>Defaults to the number of processors.
+     *
+     * @return the property with the maximum number of translations checked in parallel.
+     */
+    @Internal
+    public abstract Property<Integer> getMaxParallelism();
+
+    /**
+     * Gets the SARIF report, with the findings of all the translations.
+     *
+     * @return the property with the report.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    @TaskAction
+    void check() throws IOException {
+        Map<Path, List<File>> translations = new TreeMap<>();
+        for (File file : getSource().getFiles()) {
+            Path base = ValidateProperties.baseFile(file);
+            if (base != null) {
+                translations.computeIfAbsent(base, k -> new ArrayList<>()).add(file);
+            }
+        }
+
+        List<Callable<List<Finding>>> checks = new ArrayList<>();
+        List<File> files = new ArrayList<>();
+        for (Map.Entry<Path, List<File>> entry : translations.entrySet()) {
+            Keys baseKeys = readKeys(entry.getKey());
+            List<File> bundle = entry.getValue();
+            bundle.sort(null);
+            for (File file : bundle) {
+                files.add(file);
+                checks.add(() -> check(file.toPath(), baseKeys));
+            }
+        }
+
+        List<List<Finding>> results = run(checks);
+
+        Path baseDirectory = getBaseDirectory().get().getAsFile().toPath();
+        Set<Rule> rules = getRules().get();
+        var report = new SarifReport(TOOL_NAME);
+        for (Rule rule : Rule.values()) {
+            if (rules.contains(rule)) {
+                report.addRule(rule.name(), rule.getDescription());
+            }
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            String path = FormatProperties.relativePath(baseDirectory, files.get(i));
+            for (Finding finding : results.get(i)) {
+                if (!rules.contains(finding.rule())) {
+                    continue;
+                }
+                report.addResult(finding.rule().name(), finding.getMessage(), path, finding.line());
+                String location = finding.line() == 0 ? path : path + ":" + finding.line();
+                failures.add(location + ": " + finding.getMessage());
+            }
+        }
+
+        Path reportFile = getReport().get().getAsFile().toPath();
+        report.write(reportFile);
+
+        if (!failures.isEmpty()) {
+            throw new GradleException(
+                    ValidateProperties.createFailureMessage(failures, reportFile));
+        }
+    }
+
+    private static Keys readKeys(Path file) throws IOException {
+        return PropertiesValidator.readKeys(Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    private static List<Finding> check(Path file, Keys baseKeys) throws IOException {
+        return PropertiesValidator.validateTranslation(
+                Files.readString(file, StandardCharsets.UTF_8), baseKeys);
+    }
+
+    private List<List<Finding>> run(List<Callable<List<Finding>>> checks) throws IOException {
+        int threads = Math.max(1, Math.min(getMaxParallelism().get(), checks.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<List<Finding>> results = new ArrayList<>(checks.size());
+            for (Future<List<Finding>> future : executor.invokeAll(checks)) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GradleException("Interrupted while checking the translations.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new GradleException("Failed to check the translations.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
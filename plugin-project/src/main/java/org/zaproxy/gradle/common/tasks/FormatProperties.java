@@ -0,0 +1,242 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import javax.inject.Inject;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.FileType;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.gradle.work.ChangeType;
+import org.gradle.work.FileChange;
+import org.gradle.work.Incremental;
+import org.gradle.work.InputChanges;
+import org.gradle.workers.WorkQueue;
+import org.gradle.workers.WorkerExecutor;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult.Status;
+
+/**
+ * A task that formats, or checks the format of, properties files.
+ *
+ * <p>The files are split into partitions processed in parallel by workers, as many as allowed by
+ * {@code org.gradle.workers.max}, and the results merged into a single report.
+ *
+ * <p>The task is incremental, only the added and modified files are processed, the status of the
+ * other files is kept from the report of the previous execution.
+ */
+public abstract class FormatProperties extends DefaultTask {
+
+    private static final int DEFAULT_PARTITION_SIZE = 100;
+    private static final long DEFAULT_LARGE_FILE_THRESHOLD = 32L * 1024 * 1024;
+    private static final int MAX_FILES_IN_ERROR_MESSAGE = 20;
+
+    public FormatProperties() {
+        getEngine().convention(Engine.COMMONS_CONFIGURATION);
+        getCheck().convention(false);
+        getPartitionSize().convention(DEFAULT_PARTITION_SIZE);
+        getClassLoaderIsolation().convention(false);
+        getLargeFileThreshold().convention(DEFAULT_LARGE_FILE_THRESHOLD);
+    }
+
+    @InputFiles
+    @Incremental
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSource();
+
+    @Internal
+    public abstract DirectoryProperty getBaseDirectory();
+
+    @Input
+    public abstract Property<Engine> getEngine();
+
+    @Input
+    public abstract Property<Boolean> getCheck();
+
+    @Internal
+    public abstract Property<Integer> getPartitionSize();
+
+    @Internal
+    public abstract Property<Boolean> getClassLoaderIsolation();
+
+    /**
+     * Gets the size, in bytes, above which the files are formatted with bounded memory.
+     *
+     * <p>The properties of those files are sorted in chunks of about this size, spilled to
+     * temporary files, and then merged, instead of reading the whole file into memory. The output
+     * is the same, regardless of the engine.
+     *
+     * <p>Defaults to 32 MiB.
+     *
+     * @return the property with the threshold.
+     * @since 0.6.0
+     */
+    @Internal
+    public abstract Property<Long> getLargeFileThreshold();
+
+    /**
+     * Gets the report, with the status of each file.
+     *
+     * <p>Also used as the state of the previous execution, when running incrementally.
+     *
+     * @return the property with the report.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    @Inject
+    protected abstract WorkerExecutor getWorkerExecutor();
+
+    @TaskAction
+    void process(InputChanges inputChanges) throws IOException {
+        Path baseDirectory = getBaseDirectory().get().getAsFile().toPath();
+        Path report = getReport().get().getAsFile().toPath();
+        Map<String, String> results = new TreeMap<>();
+        if (inputChanges.isIncremental()) {
+            readResults(report, results);
+        }
+
+        List<File> files = new ArrayList<>();
+        for (FileChange change : inputChanges.getFileChanges(getSource())) {
+            if (change.getFileType() == FileType.DIRECTORY) {
+                continue;
+            }
+            if (change.getChangeType() == ChangeType.REMOVED) {
+                results.remove(relativePath(baseDirectory, change.getFile()));
+            } else {
+                files.add(change.getFile());
+            }
+        }
+        files.sort(Comparator.naturalOrder());
+
+        for (Path resultsFile : processFiles(files)) {
+            readResults(resultsFile, results);
+        }
+
+        writeReport(report, results.values());
+    }
+
+    private List<Path> processFiles(List<File> files) {
+        WorkQueue workQueue =
+                getClassLoaderIsolation().get()
+                        ? getWorkerExecutor().classLoaderIsolation()
+                        : getWorkerExecutor().noIsolation();
+        int partitionSize = Math.max(1, getPartitionSize().get());
+        Path resultsDir = getTemporaryDir().toPath();
+        List<Path> resultsFiles = new ArrayList<>();
+        for (int i = 0; i < files.size(); i += partitionSize) {
+            List<File> partition = files.subList(i, Math.min(i + partitionSize, files.size()));
+            Path resultsFile = resultsDir.resolve("partition-" + resultsFiles.size() + ".txt");
+            resultsFiles.add(resultsFile);
+            workQueue.submit(
+                    FormatPropertiesWorkAction.class,
+                    parameters -> {
+                        parameters.getFiles().from(partition);
+                        parameters.getBaseDirectory().set(getBaseDirectory());
+                        parameters.getEngine().set(getEngine());
+                        parameters.getCheck().set(getCheck());
+                        parameters.getLargeFileThreshold().set(getLargeFileThreshold());
+                        parameters.getTemporaryDirectory().set(resultsDir.toFile());
+                        parameters.getResults().set(resultsFile.toFile());
+                    });
+        }
+        workQueue.await();
+        return resultsFiles;
+    }
+
+    static String relativePath(Path baseDirectory, File file) {
+        return baseDirectory.relativize(file.toPath()).toString().replace(File.separatorChar, '/');
+    }
+
+    private static void readResults(Path file, Map<String, String> results) throws IOException {
+        if (Files.notExists(file)) {
+            return;
+        }
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] fields = line.split("\t", 3);
+            if (fields.length > 1) {
+                results.put(fields[1], line);
+            }
+        }
+    }
+
+    private void writeReport(Path report, Collection<String> results) throws IOException {
+        List<String> failures = new ArrayList<>();
+        Files.createDirectories(report.getParent());
+        try (var writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+            for (String line : results) {
+                Status status = statusOf(line);
+                if (status == Status.INVALID || status == Status.NOT_FORMATTED) {
+                    failures.add(line);
+                }
+                writer.append(line).append('\n');
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new GradleException(createFailureMessage(failures, report));
+        }
+    }
+
+    private static Status statusOf(String line) {
+        int idx = line.indexOf('\t');
+        return Status.valueOf(idx == -1 ? line : line.substring(0, idx));
+    }
+
+    private static String createFailureMessage(List<String> failures, Path report) {
+        var message = new StringBuilder();
+        message.append(failures.size())
+                .append(" properties file(s) not formatted or invalid, see the report ")
+                .append(report.toUri())
+                .append('\n');
+        failures.stream()
+                .limit(MAX_FILES_IN_ERROR_MESSAGE)
+                .forEach(failure -> message.append(failure).append('\n'));
+        if (failures.size() > MAX_FILES_IN_ERROR_MESSAGE) {
+            message.append("...\n");
+        }
+        return message.toString();
+    }
+}
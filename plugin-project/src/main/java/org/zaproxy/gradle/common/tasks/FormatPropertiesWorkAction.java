@@ -0,0 +1,156 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.Property;
+import org.gradle.workers.WorkAction;
+import org.gradle.workers.WorkParameters;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult.Status;
+
+/**
+ * The work action that formats, or checks the format of, a partition of the properties files.
+ *
+ * <p>The result of each file is written to the results file, one per line.
+ *
+ * <p>The files are formatted as a batch, with the batch API of {@link FormatPropertiesStep}, except
+ * the large files, which are formatted with bounded memory.
+ */
+public abstract class FormatPropertiesWorkAction
+        implements WorkAction<FormatPropertiesWorkAction.Parameters> {
+
+    /** The parameters of the work action. */
+    public interface Parameters extends WorkParameters {
+
+        ConfigurableFileCollection getFiles();
+
+        DirectoryProperty getBaseDirectory();
+
+        Property<Engine> getEngine();
+
+        Property<Boolean> getCheck();
+
+        Property<Long> getLargeFileThreshold();
+
+        DirectoryProperty getTemporaryDirectory();
+
+        RegularFileProperty getResults();
+    }
+
+    @Override
+    public void execute() {
+        Parameters parameters = getParameters();
+        Path baseDirectory = parameters.getBaseDirectory().get().getAsFile().toPath();
+        Engine engine = parameters.getEngine().get();
+        boolean check = parameters.getCheck().get();
+        long largeFileThreshold = parameters.getLargeFileThreshold().get();
+
+        var results = new StringBuilder();
+        List<Path> files = new ArrayList<>();
+        for (File file : parameters.getFiles()) {
+            if (file.length() > largeFileThreshold) {
+                FileResult result = processLarge(file.toPath(), largeFileThreshold, check);
+                appendResult(results, baseDirectory, result);
+            } else {
+                files.add(file.toPath());
+            }
+        }
+
+        try {
+            for (FileResult result : FormatPropertiesStep.format(files, engine, check)) {
+                appendResult(results, baseDirectory, result);
+            }
+        } catch (IOException e) {
+            throw new GradleException(e.getMessage(), e);
+        }
+
+        Path resultsFile = parameters.getResults().get().getAsFile().toPath();
+        try {
+            Files.writeString(resultsFile, results);
+        } catch (IOException e) {
+            throw new GradleException("Failed to write the results: " + resultsFile, e);
+        }
+    }
+
+    private static void appendResult(StringBuilder results, Path baseDirectory, FileResult result) {
+        results.append(result.status())
+                .append('\t')
+                .append(FormatProperties.relativePath(baseDirectory, result.file().toFile()));
+        if (result.reason() != null) {
+            results.append('\t').append(result.reason().strip().replace("\n", "\\n"));
+        }
+        results.append('\n');
+    }
+
+    private FileResult processLarge(Path file, long largeFileThreshold, boolean check) {
+        Path tempDir = getParameters().getTemporaryDirectory().get().getAsFile().toPath();
+        int chunkSize = (int) Math.min(largeFileThreshold, Integer.MAX_VALUE - 8);
+        Path output = null;
+        try {
+            output = Files.createTempFile(tempDir, "formatted-", ".properties");
+            boolean formatted;
+            try {
+                formatted = FormatPropertiesStep.format(file, output, tempDir, chunkSize);
+            } catch (CharacterCodingException e) {
+                return new FileResult(file, Status.INVALID, "Not valid UTF-8: " + e.getMessage());
+            } catch (RuntimeException e) {
+                return new FileResult(file, Status.INVALID, e.getMessage());
+            }
+
+            if (formatted) {
+                return new FileResult(file, Status.UNCHANGED, null);
+            }
+            if (check) {
+                return new FileResult(file, Status.NOT_FORMATTED, null);
+            }
+            Files.copy(output, file, StandardCopyOption.REPLACE_EXISTING);
+            return new FileResult(file, Status.FORMATTED, null);
+        } catch (IOException e) {
+            throw new GradleException("Failed to format the properties file: " + file, e);
+        } finally {
+            deleteQuietly(output);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            // Nothing to do, it's in the temporary directory of the task.
+        }
+    }
+}
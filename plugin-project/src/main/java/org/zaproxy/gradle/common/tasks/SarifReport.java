@@ -0,0 +1,113 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.zaproxy.gradle.common.internal.Json;
+
+/**
+ * A minimal writer of SARIF 2.1.0 reports, with a single run.
+ *
+ * <p>The locations are relative to the {@code %SRCROOT%}, which allows CI tools to annotate the
+ * source files.
+ */
+final class SarifReport {
+
+    private final String toolName;
+    private final Map<String, String> rules = new LinkedHashMap<>();
+    private final List<String> results = new ArrayList<>();
+
+    SarifReport(String toolName) {
+        this.toolName = toolName;
+    }
+
+    /**
+     * Adds a rule, if not already added.
+     *
+     * @param id the ID of the rule.
+     * @param description the description of the rule.
+     */
+    void addRule(String id, String description) {
+        rules.putIfAbsent(id, description);
+    }
+
+    /**
+     * Adds an error result.
+     *
+     * @param ruleId the ID of the rule, previously added.
+     * @param message the message of the result.
+     * @param path the path to the file, relative to the source root.
+     * @param line the line, starting at 1, or 0 if not known.
+     */
+    void addResult(String ruleId, String message, String path, int line) {
+        var result = new StringBuilder();
+        result.append("{\"ruleId\":")
+                .append(Json.quote(ruleId))
+                .append(",\"level\":\"error\",\"message\":{\"text\":")
+                .append(Json.quote(message))
+                .append("},\"locations\":[{\"physicalLocation\":{\"artifactLocation\":{\"uri\":")
+                .append(Json.quote(path))
+                .append(",\"uriBaseId\":\"%SRCROOT%\"}");
+        if (line > 0) {
+            result.append(",\"region\":{\"startLine\":").append(line).append('}');
+        }
+        result.append("}}]}");
+        results.add(result.toString());
+    }
+
+    /**
+     * Writes the report to the given file.
+     *
+     * @param file the file to write to.
+     * @throws IOException if an error occurred while writing the report.
+     */
+    void write(Path file) throws IOException {
+        var sb = new StringBuilder();
+        sb.append("{\"$schema\":\"https://json.schemastore.org/sarif-2.1.0.json\",")
+                .append("\"version\":\"2.1.0\",\"runs\":[{\"tool\":{\"driver\":{\"name\":")
+                .append(Json.quote(toolName))
+                .append(",\"rules\":[");
+        boolean first = true;
+        for (Map.Entry<String, String> rule : rules.entrySet()) {
+            if (!first) {
+                sb.append(',');
+            }
+            first = false;
+            sb.append("{\"id\":")
+                    .append(Json.quote(rule.getKey()))
+                    .append(",\"shortDescription\":{\"text\":")
+                    .append(Json.quote(rule.getValue()))
+                    .append("}}");
+        }
+        sb.append("]}},\"results\":[\n");
+        sb.append(String.join(",\n", results));
+        sb.append("\n]}]}\n");
+
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, sb, StandardCharsets.UTF_8);
+    }
+}
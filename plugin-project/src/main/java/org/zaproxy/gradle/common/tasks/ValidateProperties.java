@@ -0,0 +1,196 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.file.ConfigurableFileCollection;
+import org.gradle.api.file.DirectoryProperty;
+import org.gradle.api.file.RegularFileProperty;
+import org.gradle.api.provider.SetProperty;
+import org.gradle.api.tasks.IgnoreEmptyDirectories;
+import org.gradle.api.tasks.Input;
+import org.gradle.api.tasks.InputFiles;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.OutputFile;
+import org.gradle.api.tasks.PathSensitive;
+import org.gradle.api.tasks.PathSensitivity;
+import org.gradle.api.tasks.SkipWhenEmpty;
+import org.gradle.api.tasks.TaskAction;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Finding;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Keys;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Rule;
+
+/**
+ * A task that validates properties files.
+ *
+ * <p>All the files are validated, the findings are written to a SARIF report and the task fails
+ * once at the end, if there are any.
+ *
+ * <p>The translations, for example, {@code Messages_pt_PT.properties}, are also validated against
+ * the keys of their base file in the same directory, for example, {@code Messages.properties}.
+ */
+public abstract class ValidateProperties extends DefaultTask {
+
+    private static final String TOOL_NAME = "zap-properties-validator";
+    private static final int MAX_FINDINGS_IN_ERROR_MESSAGE = 20;
+
+    /**
+     * The name of the translations, with the language and region, as excluded from the format,
+     * for example, {@code Messages_pt_PT.properties} or {@code Messages_es_419.properties}.
+     */
+    private static final Pattern TRANSLATION_FILE_NAME =
+            Pattern.compile("(.+?)_[a-z]{2,3}_(?:[A-Z]{2}|[0-9]{3})\\.properties");
+
+    public ValidateProperties() {
+        getRules()
+                .convention(
+                        EnumSet.complementOf(
+                                EnumSet.of(
+                                        Rule.MISSING_IN_TRANSLATION, Rule.PLACEHOLDER_MISMATCH)));
+    }
+
+    @InputFiles
+    @SkipWhenEmpty
+    @IgnoreEmptyDirectories
+    @PathSensitive(PathSensitivity.RELATIVE)
+    public abstract ConfigurableFileCollection getSource();
+
+    @Internal
+    public abstract DirectoryProperty getBaseDirectory();
+
+    /**
+     * Gets the rules of the validation.
+     *
+     * <p>Defaults to all the rules, except the ones of {@link CheckTranslations}.
+     *
+     * @return the property with the rules.
+     * @since 0.6.0
+     */
+    @Input
+    public abstract SetProperty<Rule> getRules();
+
+    /**
+     * Gets the SARIF report, with the findings of all the files.
+     *
+     * @return the property with the report.
+     */
+    @OutputFile
+    public abstract RegularFileProperty getReport();
+
+    @TaskAction
+    void validate() throws IOException {
+        List<File> files = new ArrayList<>(getSource().getFiles());
+        files.sort(Comparator.naturalOrder());
+
+        Path baseDirectory = getBaseDirectory().get().getAsFile().toPath();
+        Set<Rule> rules = getRules().get();
+        var report = new SarifReport(TOOL_NAME);
+        for (Rule rule : Rule.values()) {
+            if (rules.contains(rule)) {
+                report.addRule(rule.name(), rule.getDescription());
+            }
+        }
+
+        Map<Path, Keys> baseKeys = new HashMap<>();
+        List<String> failures = new ArrayList<>();
+        for (File file : files) {
+            String path = FormatProperties.relativePath(baseDirectory, file);
+            Keys keys = rules.contains(Rule.MISSING_IN_BASE) ? baseKeys(file, baseKeys) : null;
+            for (Finding finding : validate(file.toPath(), keys)) {
+                if (!rules.contains(finding.rule())) {
+                    continue;
+                }
+                report.addResult(finding.rule().name(), finding.getMessage(), path, finding.line());
+                failures.add(path + ":" + finding.line() + ": " + finding.getMessage());
+            }
+        }
+
+        Path reportFile = getReport().get().getAsFile().toPath();
+        report.write(reportFile);
+
+        if (!failures.isEmpty()) {
+            throw new GradleException(createFailureMessage(failures, reportFile));
+        }
+    }
+
+    private static List<Finding> validate(Path file, Keys baseKeys) throws IOException {
+        return PropertiesValidator.validate(
+                Files.readString(file, StandardCharsets.UTF_8), baseKeys);
+    }
+
+    private static Keys baseKeys(File file, Map<Path, Keys> cache) throws IOException {
+        Path base = baseFile(file);
+        if (base == null) {
+            return null;
+        }
+        Keys keys = cache.get(base);
+        if (keys == null) {
+            keys = PropertiesValidator.readKeys(Files.readString(base, StandardCharsets.UTF_8));
+            cache.put(base, keys);
+        }
+        return keys;
+    }
+
+    /**
+     * Gets the base file of the given translation, in the same directory.
+     *
+     * @param file the file, possibly a translation.
+     * @return the base file, or {@code null} if not a translation or the base file does not exist.
+     */
+    static Path baseFile(File file) {
+        Matcher matcher = TRANSLATION_FILE_NAME.matcher(file.getName());
+        if (!matcher.matches()) {
+            return null;
+        }
+        Path base = file.toPath().resolveSibling(matcher.group(1) + ".properties");
+        return Files.isRegularFile(base) ? base : null;
+    }
+
+    static String createFailureMessage(List<String> failures, Path report) {
+        var message = new StringBuilder();
+        message.append(failures.size())
+                .append(" invalid properties found, see the report ")
+                .append(report.toUri())
+                .append('\n');
+        failures.stream()
+                .limit(MAX_FINDINGS_IN_ERROR_MESSAGE)
+                .forEach(failure -> message.append(failure).append('\n'));
+        if (failures.size() > MAX_FINDINGS_IN_ERROR_MESSAGE) {
+            message.append("...\n");
+        }
+        return message.toString();
+    }
+}
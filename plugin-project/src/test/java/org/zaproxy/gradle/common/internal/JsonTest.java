@@ -0,0 +1,57 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class JsonTest {
+
+    @Test
+    void shouldQuoteValue() {
+        // Given
+        String value = ":sub:compileJava";
+        // When
+        String quoted = Json.quote(value);
+        // Then
+        assertThat(quoted).isEqualTo("\":sub:compileJava\"");
+    }
+
+    @Test
+    void shouldEscapeQuotesBackslashesAndControlCharacters() {
+        // Given
+        String value = "a\"b\\c\nd\re\tf\u0001";
+        // When
+        String quoted = Json.quote(value);
+        // Then
+        assertThat(quoted).isEqualTo("\"a\\\"b\\\\c\\nd\\re\\tf\\u0001\"");
+    }
+
+    @Test
+    void shouldAppendQuotedValue() {
+        // Given
+        var sb = new StringBuilder("{\"path\":");
+        // When
+        Json.appendQuoted(sb, "a\"b").append('}');
+        // Then
+        assertThat(sb).hasToString("{\"path\":\"a\\\"b\"}");
+    }
+}
@@ -22,9 +22,25 @@ package org.zaproxy.gradle.common.spotless;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.diffplug.spotless.FormatterStep;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.FileResult.Status;
 
 class FormatPropertiesStepTest {
+
+    @TempDir Path dir;
+
     @Test
     void shouldTrimSpacesBeforeSeparator() throws Exception {
         assertThat(FormatPropertiesStep.format("spaces.before.separator     = value\n"))
@@ -199,4 +215,128 @@ class FormatPropertiesStepTest {
                 .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class)
                 .hasMessage("Invalid properties:\nLEADING_SPACE_IN_NAME: [key]\n");
     }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldFormatFilesInBatch(Engine engine) throws Exception {
+        // Given
+        Path formatted = write("formatted.properties", "a = 1\nb = 2\n");
+        Path unformatted = write("unformatted.properties", "# header\n\nd=4\r\nc=3\n");
+        Path invalid = write("invalid.properties", "e = 5\ne = 6\n");
+        Path other = write("other.properties", "g=7\nf=6\n");
+        // When
+        List<FileResult> results =
+                FormatPropertiesStep.format(
+                        List.of(formatted, unformatted, invalid, other), engine, false);
+        // Then
+        assertThat(results)
+                .containsExactly(
+                        new FileResult(formatted, Status.UNCHANGED, null),
+                        new FileResult(unformatted, Status.FORMATTED, null),
+                        new FileResult(
+                                invalid,
+                                Status.INVALID,
+                                "Invalid properties:\nDUPLICATE: [e]\n"),
+                        new FileResult(other, Status.FORMATTED, null));
+        assertThat(unformatted).hasContent("# header\n\nc = 3\n\nd = 4\n");
+        assertThat(invalid).hasContent("e = 5\ne = 6\n");
+        assertThat(other).hasContent("f = 6\ng = 7\n");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldReportFilesNotValidUtf8AsInvalidInBatch(Engine engine) throws Exception {
+        // Given
+        Path malformed = dir.resolve("malformed.properties");
+        Files.write(malformed, new byte[] {'b', '=', (byte) 0xC3, '\n', 'a', '=', '1', '\n'});
+        Path unformatted = write("unformatted.properties", "d=4\nc=3\n");
+        // When
+        List<FileResult> results =
+                FormatPropertiesStep.format(List.of(malformed, unformatted), engine, false);
+        // Then
+        assertThat(results)
+                .containsExactly(
+                        new FileResult(
+                                malformed, Status.INVALID, "Not valid UTF-8: Input length = 1"),
+                        new FileResult(unformatted, Status.FORMATTED, null));
+        assertThat(unformatted).hasContent("c = 3\nd = 4\n");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldOnlyCheckFilesInBatch(Engine engine) throws Exception {
+        // Given
+        Path formatted = write("formatted.properties", "a = 1\n");
+        Path unformatted = write("unformatted.properties", "b=2\n");
+        // When
+        List<FileResult> results =
+                FormatPropertiesStep.format(List.of(formatted, unformatted), engine, true);
+        // Then
+        assertThat(results)
+                .extracting(FileResult::status)
+                .containsExactly(Status.UNCHANGED, Status.NOT_FORMATTED);
+        assertThat(unformatted).hasContent("b=2\n");
+    }
+
+    @Test
+    void shouldCacheBiggerContents() throws Exception {
+        // Given
+        Path cacheDir = dir.resolve("cache");
+        FormatterStep step = FormatPropertiesStep.create(Engine.STREAMING, cacheDir.toFile());
+        String content = unsortedProperties(PropertiesFormatCache.MIN_CONTENT_LENGTH);
+        // When
+        String formatted = step.format(content, dir.resolve("a.properties").toFile());
+        // Then
+        assertThat(formatted).isEqualTo(FormatPropertiesStep.format(content, Engine.STREAMING));
+        assertThat(cacheEntries(cacheDir)).hasSize(1);
+    }
+
+    @Test
+    void shouldNotCacheSmallerContents() throws Exception {
+        // Given
+        Path cacheDir = dir.resolve("cache");
+        FormatterStep step = FormatPropertiesStep.create(Engine.STREAMING, cacheDir.toFile());
+        String content = "b = 2\na = 1\n";
+        // When
+        String formatted = step.format(content, dir.resolve("a.properties").toFile());
+        // Then
+        assertThat(formatted).isEqualTo("a = 1\nb = 2\n");
+        assertThat(cacheEntries(cacheDir)).isEmpty();
+    }
+
+    @Test
+    void shouldHaveCacheDirInStateOfStep() {
+        // Given
+        File cacheDir = dir.resolve("cache").toFile();
+        File otherCacheDir = dir.resolve("other-cache").toFile();
+        // When
+        FormatterStep step = FormatPropertiesStep.create(Engine.STREAMING, cacheDir);
+        FormatterStep sameStep = FormatPropertiesStep.create(Engine.STREAMING, cacheDir);
+        FormatterStep otherStep = FormatPropertiesStep.create(Engine.STREAMING, otherCacheDir);
+        // Then
+        assertThat(step).isEqualTo(sameStep).isNotEqualTo(otherStep);
+    }
+
+    private static String unsortedProperties(int minLength) {
+        var sb = new StringBuilder();
+        for (int i = minLength / 10; i >= 0; i--) {
+            sb.append(String.format("key.%06d = value\n", i));
+        }
+        return sb.toString();
+    }
+
+    private static List<Path> cacheEntries(Path cacheDir) throws IOException {
+        if (Files.notExists(cacheDir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(Files::isRegularFile)
+                    .filter(file -> !file.getFileName().toString().equals("last-prune"))
+                    .toList();
+        }
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(dir.resolve(name), content);
+    }
 }
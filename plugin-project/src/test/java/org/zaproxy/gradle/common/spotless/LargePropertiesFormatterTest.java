@@ -0,0 +1,124 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+class LargePropertiesFormatterTest {
+
+    private static final String CONTENT =
+            "# header\n\n# comment c\nc = 3\n\n\n# comment b\nb = 2\\\n  # not a comment\n"
+                    + "d = 4\r\na = 1\n# footer\n";
+
+    @TempDir Path dir;
+
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() {
+        input = dir.resolve("input.properties");
+        output = dir.resolve("output.properties");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 10, 30, 1_000_000})
+    void shouldFormatSameAsInMemoryWithAnyChunkSize(int chunkSize) throws Exception {
+        // Given
+        write(CONTENT);
+        // When
+        boolean formatted = LargePropertiesFormatter.format(input, output, dir, chunkSize);
+        // Then
+        assertThat(formatted).isFalse();
+        assertThat(output)
+                .content(StandardCharsets.UTF_8)
+                .isEqualTo(PropertiesFormatter.format(CONTENT.replace("\r\n", "\n")));
+        assertThat(dir).isDirectoryNotContaining("glob:**/properties-run-*");
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "\\\n\n\n\n",
+                "b = 2\n\\\n\n\n\na = 1\n",
+                "b = 2\n\\\n# comment\na = 1\\\n\n\n",
+                "# header\n\nb = 2\\\n\n\na = 1\n"
+            })
+    void shouldFormatSameAsOtherEnginesWithContinuationsAcrossChunks(String content)
+            throws Exception {
+        // Given
+        write(content);
+        // When
+        LargePropertiesFormatter.format(input, output, dir, 1);
+        // Then
+        assertThat(output)
+                .content(StandardCharsets.UTF_8)
+                .isEqualTo(FormatPropertiesStep.format(content, Engine.COMMONS_CONFIGURATION))
+                .isEqualTo(FormatPropertiesStep.format(content, Engine.STREAMING));
+    }
+
+    @Test
+    void shouldReportAlreadyFormattedIgnoringLineEndings() throws Exception {
+        // Given
+        write("# header\n\na = 1\r\nb = 2\r\n");
+        // When
+        boolean formatted = LargePropertiesFormatter.format(input, output, dir, 1);
+        // Then
+        assertThat(formatted).isTrue();
+        assertThat(output).content().isEqualTo("# header\n\na = 1\nb = 2\n");
+    }
+
+    @Test
+    void shouldThrowExceptionOnDuplicatesInDifferentChunks() throws Exception {
+        // Given
+        write("b = 1\na = 1\nc = 1\nb = 2\na = 2\n");
+        // When / Then
+        assertThatThrownBy(() -> LargePropertiesFormatter.format(input, output, dir, 1))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class)
+                .hasMessage("Invalid properties:\nDUPLICATE: [b, a]\n");
+        assertThat(output).doesNotExist();
+        assertThat(dir).isDirectoryNotContaining("glob:**/properties-run-*");
+    }
+
+    @Test
+    void shouldThrowExceptionOnKeysWithLeadingSpaces() throws Exception {
+        // Given
+        write("a = 1\n key = value1");
+        // When / Then
+        assertThatThrownBy(() -> LargePropertiesFormatter.format(input, output, dir, 1))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class)
+                .hasMessage("Invalid properties:\nLEADING_SPACE_IN_NAME: [key]\n");
+    }
+
+    private void write(String content) throws Exception {
+        Files.writeString(input, content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.diffplug.spotless.FormatterStep;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LicenseHeaderStepTest {
+
+    private static final String TEMPLATE = "/*\n * Copyright $YEAR The Authors\n */";
+    private static final String CODE = "package org.zaproxy.example;\n\nclass Example {}\n";
+
+    @TempDir Path dir;
+
+    @Test
+    void shouldAddHeaderWithGivenYear() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        // When
+        String formatted = format(step, CODE);
+        // Then
+        assertThat(formatted).isEqualTo("/*\n * Copyright 2025 The Authors\n */\n" + CODE);
+    }
+
+    @Test
+    void shouldNotChangeContentWithHeaderOfOtherYear() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        String content = "/*\n * Copyright 2019 The Authors\n */\n" + CODE;
+        // When
+        String formatted = format(step, content);
+        // Then
+        assertThat(formatted).isSameAs(content);
+    }
+
+    @Test
+    void shouldNotChangeContentWithHeaderWithRangeOfYears() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        String content = "/*\n * Copyright 2015-2024 The Authors\n */\n" + CODE;
+        // When
+        String formatted = format(step, content);
+        // Then
+        assertThat(formatted).isSameAs(content);
+    }
+
+    @Test
+    void shouldReplaceDifferentHeaderKeepingItsYear() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        String content = "// (C) 2017 Someone\n" + CODE;
+        // When
+        String formatted = format(step, content);
+        // Then
+        assertThat(formatted).isEqualTo("/*\n * Copyright 2017 The Authors\n */\n" + CODE);
+    }
+
+    @Test
+    void shouldRemoveLinesBetweenHeaderAndCode() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        String content = "/*\n * Copyright 2019 The Authors\n */\n\n" + CODE;
+        // When
+        String formatted = format(step, content);
+        // Then
+        assertThat(formatted).isEqualTo("/*\n * Copyright 2019 The Authors\n */\n" + CODE);
+    }
+
+    @Test
+    void shouldFailIfNoStartOfCode() throws Exception {
+        // Given
+        FormatterStep step = LicenseHeaderStep.create(TEMPLATE, "2025");
+        // When / Then
+        assertThatThrownBy(() -> format(step, "// Nothing\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldApplyHeaderToFilesInBatch() throws Exception {
+        // Given
+        String header = "/*\n * Copyright 2019 The Authors\n */\n";
+        Path withHeader = write("WithHeader.java", header + CODE);
+        Path withoutHeader = write("WithoutHeader.java", CODE);
+        Path otherHeader = write("OtherHeader.java", "// 2017\n" + CODE);
+        // When
+        List<Path> mismatches =
+                LicenseHeaderStep.format(
+                        List.of(withHeader, withoutHeader, otherHeader), TEMPLATE, false);
+        // Then
+        assertThat(mismatches).containsExactly(withoutHeader, otherHeader);
+        assertThat(withHeader).hasContent(header + CODE);
+        assertThat(withoutHeader).content().startsWith("/*\n * Copyright ").endsWith(CODE);
+        assertThat(otherHeader).hasContent("/*\n * Copyright 2017 The Authors\n */\n" + CODE);
+    }
+
+    @Test
+    void shouldOnlyCheckHeaderOfFilesInBatch() throws Exception {
+        // Given
+        Path withHeader =
+                write("WithHeader.java", "/*\n * Copyright 2019 The Authors\n */\n" + CODE);
+        Path withoutHeader = write("WithoutHeader.java", CODE);
+        // When
+        List<Path> mismatches =
+                LicenseHeaderStep.format(List.of(withHeader, withoutHeader), TEMPLATE, true);
+        // Then
+        assertThat(mismatches).containsExactly(withoutHeader);
+        assertThat(withoutHeader).hasContent(CODE);
+    }
+
+    @Test
+    void shouldMatchHeaderOfFilesWithWindowsLineEndingsInBatch() throws Exception {
+        // Given
+        String content = ("/*\n * Copyright 2019 The Authors\n */\n" + CODE).replace("\n", "\r\n");
+        Path file = write("Windows.java", content);
+        // When
+        List<Path> mismatches = LicenseHeaderStep.format(List.of(file), TEMPLATE, false);
+        // Then
+        assertThat(mismatches).isEmpty();
+        assertThat(file).hasContent(content);
+    }
+
+    @Test
+    void shouldApplyHeaderKeepingWindowsLineEndingsInBatch() throws Exception {
+        // Given
+        Path file = write("Windows.java", ("// 2017\n" + CODE).replace("\n", "\r\n"));
+        // When
+        List<Path> mismatches = LicenseHeaderStep.format(List.of(file), TEMPLATE, false);
+        // Then
+        assertThat(mismatches).containsExactly(file);
+        assertThat(file)
+                .hasContent(
+                        ("/*\n * Copyright 2017 The Authors\n */\n" + CODE).replace("\n", "\r\n"));
+    }
+
+    @Test
+    void shouldCheckHeaderOfBigFilesInBatch() throws Exception {
+        // Given
+        String header = "/*\n * Copyright 2019 The Authors\n */\n";
+        Path file = write("Big.java", header + CODE + "\n// ".repeat(100_000) + "😀\n");
+        // When
+        List<Path> mismatches = LicenseHeaderStep.format(List.of(file), TEMPLATE, true);
+        // Then
+        assertThat(mismatches).isEmpty();
+    }
+
+    private static String format(FormatterStep step, String content) throws Exception {
+        return step.format(content, new File("Example.java"));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(dir.resolve(name), content);
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PropertiesFileReaderTest {
+
+    private static final String CONTENT = "a = Olá\nb = € 2\n";
+
+    @TempDir Path dir;
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, Long.MAX_VALUE})
+    void shouldReadFileMappedOrIntoHeap(long mappingThreshold) throws Exception {
+        // Given
+        Path file = write("file.properties", CONTENT);
+        var reader = new PropertiesFileReader(mappingThreshold);
+        // When
+        CharSequence content = reader.read(file);
+        // Then
+        assertThat(content).hasToString(CONTENT);
+    }
+
+    @Test
+    void shouldReuseBufferAcrossFilesOfDifferentSizes() throws Exception {
+        // Given
+        String big = "k = v\n".repeat(10_000);
+        Path bigFile = write("big.properties", big);
+        Path smallFile = write("small.properties", CONTENT);
+        var reader = new PropertiesFileReader(1024);
+        // When
+        String firstSmall = reader.read(smallFile).toString();
+        String readBig = reader.read(bigFile).toString();
+        String secondSmall = reader.read(smallFile).toString();
+        // Then
+        assertThat(firstSmall).isEqualTo(CONTENT);
+        assertThat(readBig).isEqualTo(big);
+        assertThat(secondSmall).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void shouldThrowIfNotValidUtf8() throws Exception {
+        // Given
+        Path file = dir.resolve("file.properties");
+        Files.write(file, new byte[] {'a', '=', (byte) 0xff, '\n'});
+        var reader = new PropertiesFileReader(Long.MAX_VALUE);
+        // When / Then
+        assertThatThrownBy(() -> reader.read(file)).isInstanceOf(MalformedInputException.class);
+    }
+
+    private Path write(String name, String content) throws Exception {
+        return Files.writeString(dir.resolve(name), content, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+class PropertiesFormatCacheTest {
+
+    @TempDir Path cacheDir;
+
+    @Test
+    void shouldNotGetContentNotCached() {
+        // Given
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        String content = "b = 2\na = 1\n";
+        // When
+        String formatted = cache.get(cache.entry(content), content);
+        // Then
+        assertThat(formatted).isNull();
+    }
+
+    @Test
+    void shouldGetFormattedContent() {
+        // Given
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        String content = "b = 2\na = 1\n";
+        cache.put(cache.entry(content), content, "a = 1\nb = 2\n");
+        // When
+        String formatted = cache.get(cache.entry(content), content);
+        // Then
+        assertThat(formatted).isEqualTo("a = 1\nb = 2\n");
+    }
+
+    @Test
+    void shouldGetUnchangedContent() {
+        // Given
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        String content = "a\\u0041 = 1\n";
+        cache.put(cache.entry(content), content, content);
+        // When
+        String formatted = cache.get(cache.entry(content), content);
+        // Then
+        assertThat(formatted).isEqualTo(content);
+    }
+
+    @Test
+    void shouldKeepEntriesAcrossInstances() {
+        // Given
+        String content = "b = 2\na = 1\n";
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        cache.put(cache.entry(content), content, "a = 1\nb = 2\n");
+        var otherCache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        // When
+        String formatted = otherCache.get(otherCache.entry(content), content);
+        // Then
+        assertThat(formatted).isEqualTo("a = 1\nb = 2\n");
+    }
+
+    @Test
+    void shouldKeyEntriesByEngine() {
+        // Given
+        String content = "b = 2\na = 1\n";
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING);
+        var otherCache = new PropertiesFormatCache(cacheDir, Engine.COMMONS_CONFIGURATION);
+        // When
+        Path entry = cache.entry(content);
+        Path otherEntry = otherCache.entry(content);
+        // Then
+        assertThat(entry).isNotEqualTo(otherEntry);
+    }
+
+    @Test
+    void shouldKeyEntriesByLibraryVersion() {
+        // Given
+        String content = "b = 2\na = 1\n";
+        var cache = new PropertiesFormatCache(cacheDir, Engine.COMMONS_CONFIGURATION, "1.0", 1024);
+        var otherCache =
+                new PropertiesFormatCache(cacheDir, Engine.COMMONS_CONFIGURATION, "1.1", 1024);
+        // When
+        Path entry = cache.entry(content);
+        Path otherEntry = otherCache.entry(content);
+        // Then
+        assertThat(entry).isNotEqualTo(otherEntry);
+    }
+
+    @Test
+    void shouldPruneLeastRecentlyUsedEntriesWhenExceedingMaxSize() throws Exception {
+        // Given
+        var cache = new PropertiesFormatCache(cacheDir, Engine.STREAMING, "1.0", 120);
+        Instant now = Instant.now();
+        Path[] entries = new Path[5];
+        for (int i = 0; i < entries.length; i++) {
+            String content = "key" + i + " = value\n";
+            entries[i] = cache.entry(content);
+            cache.put(entries[i], content, "x".repeat(39));
+            Files.setLastModifiedTime(
+                    entries[i], FileTime.from(now.minus(entries.length - i, ChronoUnit.HOURS)));
+        }
+        // When
+        cache.prune();
+        // Then
+        assertThat(entries[0]).doesNotExist();
+        assertThat(entries[1]).doesNotExist();
+        assertThat(entries[2]).doesNotExist();
+        assertThat(entries[3]).exists();
+        assertThat(entries[4]).exists();
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PropertiesFormatterTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "",
+                "\n",
+                "spaces.before.separator     = value\n",
+                "spaces.after.separator =      value\n",
+                "no.spaces.separator=value\n",
+                "multiline.value = value1 \\\n  value2 \\\n  value3\n",
+                "multiline.end = value1 \\",
+                "# comment1\n    #    comment2\n! comment3\n",
+                "no.value\n",
+                "no.value.with.separator =\n",
+                "spaces\\ in\\ key = value\n",
+                "escaped\\=separators\\:in\\\\key = value\n",
+                "colon.separator: value\n",
+                "space.separator value\n",
+                "tab.separator\t\tvalue\n",
+                "escape.chars = value1\\nvalue2\\tvalue3\\r\\f\\\\\n",
+                "unknown.escapes = \\a\\b\\c\n",
+                "trailing.whitespace = value   \n",
+                "unicode.whitespace = \\u0020hello world\\u0020",
+                "unicode.encoded = \\u0928\\u092E\\u0938\\u094D\\u0924\\u0947\n",
+                "unicode.key\\u0041 = value\n",
+                "no.newline = value",
+                "key = \\ value",
+                "b = 2\na = 1\nc = 3\n",
+                "# header\n\n# comment b\nb = 2\na = 1\n",
+                "# header\n\n# comment a\na = 1\n\n\n# comment b\nb = 2\n# footer\n",
+                "\n\n# comment\n\nb = 2\n\n# comment\n\na = 1\n\n",
+                "c = 3\r\nb = 2\ra = 1\n",
+                "\\\n# not a comment\nkey = value\n",
+            })
+    void shouldFormatSameAsCommonsConfiguration(String content) throws Exception {
+        assertThat(PropertiesFormatter.format(content))
+                .isEqualTo(FormatPropertiesStep.format(content));
+    }
+
+    @Test
+    void shouldSortKeysWithTheirComments() {
+        assertThat(PropertiesFormatter.format("# b\nb = 2\n\n# a\na = 1\n"))
+                .isEqualTo("\n# a\na = 1\n# b\nb = 2\n");
+    }
+
+    @Test
+    void shouldThrowExceptionOnDuplicateKeys() {
+        assertThatThrownBy(() -> PropertiesFormatter.format("b = 1\na = 1\nb = 2\na = 2\n"))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class)
+                .hasMessage("Invalid properties:\nDUPLICATE: [b, a]\n");
+    }
+
+    @Test
+    void shouldThrowExceptionOnKeysWithLeadingSpaces() {
+        assertThatThrownBy(() -> PropertiesFormatter.format("a = 1\n key = value1"))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class)
+                .hasMessage("Invalid properties:\nLEADING_SPACE_IN_NAME: [key]\n");
+    }
+
+    @Test
+    void shouldThrowExceptionOnInvalidUnicodeEscape() {
+        assertThatThrownBy(() -> PropertiesFormatter.format("key = \\u00zz\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unable to parse unicode value: 00zz");
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "",
+                "\n",
+                "a = 1\n",
+                "a = 1\nb = 2\nc = 3\n",
+                "# header\n\n# comment a\na = 1\n\n\n# comment b\nb = 2\n# footer\n",
+                "  # comment\n   \na = \n",
+                "a = value = 1\nb = : value\n",
+                "escaped\\=separators\\:in\\\\key = value\n",
+                "spaces\\ in\\ key = value\n",
+                "escape.chars = \\ value1\\nvalue2\\tvalue3\\r\\f\\\\\n",
+                "trailing.whitespace = value   \n",
+                "unicode.unencoded = नमस्ते\n",
+                "key = value\nkey.b = value\nkey\\\\ = value\n",
+            })
+    void shouldDetectFormattedContent(String content) throws Exception {
+        assertThat(PropertiesFormatter.isFormatted(content)).isTrue();
+        assertThat(FormatPropertiesStep.format(content)).isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "a = 1",
+                "a = 1\r\n",
+                "b = 1\na = 2\n",
+                "a = 1\na = 2\n",
+                " a = 1\n",
+                "= 1\n",
+                "a=1\n",
+                "a =  1\n",
+                "a = 1\\\n  2\n",
+                "a\\ = 1\n",
+                "\\ a = 1\n",
+                "a\\u0041 = 1\n",
+                "a = 1\\u0041\n",
+                "a = 1 \\ 2\n",
+                "a = \t1\n",
+                "include = other.properties\n",
+            })
+    void shouldNotDetectUnformattedContent(String content) {
+        assertThat(PropertiesFormatter.isFormatted(content)).isFalse();
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Finding;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Keys;
+import org.zaproxy.gradle.common.spotless.PropertiesValidator.Rule;
+
+class PropertiesValidatorTest {
+
+    @Test
+    void shouldNotReportValidProperties() {
+        // Given
+        String content = "# comment\nb = 2\n\na = 1\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings).isEmpty();
+    }
+
+    @Test
+    void shouldReportAllDuplicatesWithLines() {
+        // Given
+        String content = "b = 1\na = 1\nb = 2\na = 2\n# comment\nb = 3\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.DUPLICATE, "b", 3),
+                        new Finding(Rule.DUPLICATE, "a", 4),
+                        new Finding(Rule.DUPLICATE, "b", 6));
+    }
+
+    @Test
+    void shouldReportAllKeysWithLeadingSpacesWithLines() {
+        // Given
+        String content = "a = 1\n b = 2\n c = 3\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.LEADING_SPACE_IN_NAME, "b", 2),
+                        new Finding(Rule.LEADING_SPACE_IN_NAME, "c", 3));
+    }
+
+    @Test
+    void shouldReportLineWhereMultilinePropertyStarts() {
+        // Given
+        String content = "a = 1 \\\n  2 \\\n  3\na = 4\r\nb = 5\ra = 6\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.DUPLICATE, "a", 4), new Finding(Rule.DUPLICATE, "a", 6));
+    }
+
+    @Test
+    void shouldCreateMessageWithRuleAndKey() {
+        // Given
+        var finding = new Finding(Rule.DUPLICATE, "key", 1);
+        // When
+        String message = finding.getMessage();
+        // Then
+        assertThat(message).isEqualTo("Duplicate property: key");
+    }
+
+    @Test
+    void shouldReportInvalidUnicodeEscapesInKeysAndValues() {
+        // Given
+        String content = "key = \\uzzzz\nkey\\u00zz = 1\nvalid = \\u0041\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.INVALID_UNICODE_ESCAPE, "key", 1),
+                        new Finding(Rule.INVALID_UNICODE_ESCAPE, "key\\u00zz", 2));
+    }
+
+    @Test
+    void shouldReportUnbalancedPlaceholdersOutsideQuotes() {
+        // Given
+        String content =
+                "a = {0} and {1,number,#}\nb = Open {0\nc = Close }\nd = Quoted '{' and ''{0}''\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.UNBALANCED_PLACEHOLDER, "b", 2),
+                        new Finding(Rule.UNBALANCED_PLACEHOLDER, "c", 3));
+    }
+
+    @Test
+    void shouldReportUnescapedTrailingWhitespace() {
+        // Given
+        String content = "a = value \nb = value\\ \nc = value\t\nd =   \n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.TRAILING_WHITESPACE, "a", 1),
+                        new Finding(Rule.TRAILING_WHITESPACE, "c", 3));
+    }
+
+    @Test
+    void shouldReportKeysMissingFromBase() {
+        // Given
+        Keys baseKeys = PropertiesValidator.readKeys("a = 1\nb = 2\n");
+        String content = "b = 2\nc = 3\nc = 4\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content, baseKeys);
+        // Then
+        assertThat(baseKeys.size()).isEqualTo(2);
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.MISSING_IN_BASE, "c", 2),
+                        new Finding(Rule.DUPLICATE, "c", 3));
+    }
+
+    @Test
+    void shouldReportDifferencesOfTranslationToBase() {
+        // Given
+        Keys baseKeys =
+                PropertiesValidator.readKeys("a = Hello {0}\nb = {0} of {1}\nc = Plain\n");
+        String content = "a = Ola {0}\nb = {1} de '{0}'\nx = Extra\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validateTranslation(content, baseKeys);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.PLACEHOLDER_MISMATCH, "b", 2),
+                        new Finding(Rule.MISSING_IN_BASE, "x", 3),
+                        new Finding(Rule.MISSING_IN_TRANSLATION, "c", 0));
+    }
+
+    @Test
+    void shouldNotReportOtherRulesInTranslation() {
+        // Given
+        Keys baseKeys = PropertiesValidator.readKeys("a = {0}\n");
+        String content = "a = {0} \na = {0}\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validateTranslation(content, baseKeys);
+        // Then
+        assertThat(findings).isEmpty();
+    }
+
+    @Test
+    void shouldReportDuplicatesOfEscapedAndMultilineKeys() {
+        // Given
+        String content = "a\\u0041 = 1\naA = 2\nk\\\n  ey = 3\nkey = 4\nx\\=y = 5\nx\\=y = 6\n";
+        // When
+        List<Finding> findings = PropertiesValidator.validate(content);
+        // Then
+        assertThat(findings)
+                .containsExactly(
+                        new Finding(Rule.DUPLICATE, "aA", 2),
+                        new Finding(Rule.DUPLICATE, "key", 5),
+                        new Finding(Rule.DUPLICATE, "x=y", 7));
+    }
+
+    @Test
+    void shouldValidateContentInBuffer() {
+        // Given
+        char[] chars = "ignored\na = 1\na = 2\nignored".toCharArray();
+        // When
+        List<Finding> findings = PropertiesValidator.validate(chars, 8, 12);
+        // Then
+        assertThat(findings).containsExactly(new Finding(Rule.DUPLICATE, "a", 2));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.spotless;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.zaproxy.gradle.common.spotless.FormatPropertiesStep.Engine;
+
+class ReusablePropertiesFormatterTest {
+
+    private static final String LARGER = "# header\n\nd=4\nc = 3 \\\n  three\nb:2\n";
+    private static final String SMALLER = "f=6\ne=5\n";
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldFormatSameAsStepWhenReused(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine);
+        // When
+        String larger = formatter.format(LARGER);
+        String smaller = formatter.format(SMALLER);
+        // Then
+        assertThat(larger).isEqualTo(FormatPropertiesStep.format(LARGER, engine));
+        assertThat(smaller).isEqualTo("e = 5\nf = 6\n");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldReturnSameInstanceIfFormatted(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine);
+        String content = "a = 1\n";
+        // When
+        String formatted = formatter.format(content);
+        // Then
+        assertThat(formatted).isSameAs(content);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldFormatAfterInvalidContent(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine);
+        // When
+        assertThatThrownBy(() -> formatter.format("a=1\na=2\n"))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class);
+        String formatted = formatter.format(SMALLER);
+        // Then
+        assertThat(formatted).isEqualTo("e = 5\nf = 6\n");
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldFormatConcurrently(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        // When
+        try {
+            for (int i = 0; i < 200; i++) {
+                String content = i % 2 == 0 ? LARGER : SMALLER;
+                results.add(executor.submit(() -> formatter.format(content)));
+            }
+            // Then
+            String larger = FormatPropertiesStep.format(LARGER, engine);
+            for (int i = 0; i < results.size(); i++) {
+                assertThat(results.get(i).get())
+                        .isEqualTo(i % 2 == 0 ? larger : "e = 5\nf = 6\n");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldKeepAtMostMaxPooledContexts(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<String>> results = new ArrayList<>();
+        // When
+        try {
+            for (int i = 0; i < 200; i++) {
+                results.add(executor.submit(() -> formatter.format(LARGER)));
+            }
+            for (Future<String> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // Then
+        assertThat(formatter.getPooledContexts()).isBetween(1, 2);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldReturnContextToPoolAfterInvalidContent(Engine engine) throws Exception {
+        // Given
+        var formatter = ReusablePropertiesFormatter.create(engine, 2);
+        // When
+        assertThatThrownBy(() -> formatter.format("a=1\na=2\n"))
+                .isInstanceOf(FormatPropertiesStep.InvalidPropertiesException.class);
+        // Then
+        assertThat(formatter.getPooledContexts()).isEqualTo(1);
+    }
+}
@@ -1,3 +1,36 @@
+val functionalTest by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val functionalTestImplementation by configurations.getting {
+    extendsFrom(configurations.testImplementation.get())
+}
+
+val functionalTestRuntimeOnly by configurations.getting {
+    extendsFrom(configurations.testRuntimeOnly.get())
+}
+
+dependencies {
+    testImplementation(libs.assertj.core)
+    testImplementation(libs.junit.jupiter)
+    testRuntimeOnly(libs.junit.platformLauncher)
+    functionalTestImplementation(libs.apiguardian)
+}
+
+val functionalTestTask =
+    tasks.register<Test>("functionalTest") {
+        description = "Runs the functional tests."
+        group = "verification"
+        testClassesDirs = functionalTest.output.classesDirs
+        classpath = functionalTest.runtimeClasspath
+        mustRunAfter(tasks.test)
+    }
+
+tasks.check {
+    dependsOn(functionalTestTask)
+}
+
 gradlePlugin {
     plugins {
         create("zapCommonSettings") {
@@ -8,4 +41,5 @@ gradlePlugin {
             tags.set(listOf("zap", "zaproxy"))
         }
     }
+    testSourceSets(functionalTest)
 }
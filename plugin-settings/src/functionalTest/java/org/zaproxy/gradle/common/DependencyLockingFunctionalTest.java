@@ -0,0 +1,169 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class DependencyLockingFunctionalTest extends FunctionalTest {
+
+    private static final String WRITE_LOCKS = "--write-locks";
+    private static final String CHECK_LOCKS = "checkLocks";
+    private static final String PRINT_CLASSPATH = "printClasspath";
+    private static final String OFFLINE = "--offline";
+
+    private static final String SETTINGS =
+            """
+            plugins {
+                id("org.zaproxy.common.settings")
+            }
+
+            zapCommon {
+                repositories {
+                    groups {
+                        register("local") {
+                            url = uri("local-repo")
+                            includeGroups.add("org.example")
+                        }
+                    }
+                }
+            }
+            """;
+
+    private static final String BUILD_FILE =
+            """
+            plugins {
+                java
+            }
+
+            dependencies {
+                implementation("org.example:lib:1.+")%s
+            }
+
+            val compileClasspath = configurations.compileClasspath
+
+            tasks.register("printClasspath") {
+                val files: FileCollection = compileClasspath.get()
+                doLast {
+                    files.forEach { println("Resolved: " + it.name) }
+                }
+            }""";
+
+    private Path repository;
+    private Path lockFile;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        repository = projectDir.resolve("local-repo");
+        lockFile = projectDir.resolve("gradle.lockfile");
+        publish(repository, "lib", "1.0", "1.1");
+        buildFile(BUILD_FILE.formatted(""));
+    }
+
+    @Test
+    void shouldNotLockDependenciesByDefault() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        // When
+        BuildResult result = build(OFFLINE, "tasks", "--all");
+        // Then
+        assertThat(result.getOutput()).doesNotContain(CHECK_LOCKS);
+    }
+
+    @Test
+    void shouldWriteLocks() throws Exception {
+        // Given
+        settingsFile(SETTINGS + lockingEnabled());
+        // When
+        build(OFFLINE, CHECK_LOCKS, WRITE_LOCKS);
+        // Then
+        assertThat(lockFile)
+                .content()
+                .contains(
+                        "org.example:lib:1.1=compileClasspath,runtimeClasspath,"
+                                + "testCompileClasspath,testRuntimeClasspath");
+    }
+
+    @Test
+    void shouldEnableLockingWithGradleProperty() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        // When
+        build(OFFLINE, "-Porg.zaproxy.common.dependencyLocking=true", CHECK_LOCKS, WRITE_LOCKS);
+        // Then
+        assertThat(lockFile).content().contains("org.example:lib:1.1=");
+    }
+
+    @Test
+    void shouldResolveLockedVersions() throws Exception {
+        // Given
+        settingsFile(SETTINGS + lockingEnabled());
+        build(OFFLINE, CHECK_LOCKS, WRITE_LOCKS);
+        publish(repository, "lib", "1.0", "1.1", "1.2");
+        // When
+        BuildResult result = build(OFFLINE, CHECK_LOCKS, PRINT_CLASSPATH);
+        // Then
+        assertThat(result.getOutput())
+                .contains("Resolved: lib-1.1.jar")
+                .doesNotContain("Resolved: lib-1.2.jar");
+    }
+
+    @Test
+    void shouldFailCheckIfLocksAreStale() throws Exception {
+        // Given
+        settingsFile(SETTINGS + lockingEnabled());
+        build(OFFLINE, CHECK_LOCKS, WRITE_LOCKS);
+        publish(repository, "other", "1.0");
+        buildFile(BUILD_FILE.formatted("\n    implementation(\"org.example:other:1.0\")"));
+        // When
+        BuildResult result = buildAndFail(OFFLINE, CHECK_LOCKS);
+        // Then
+        assertThat(result.getOutput())
+                .contains("org.example:other:1.0: Dependency lock state out of date");
+    }
+
+    @Test
+    void shouldUpdateStaleLocks() throws Exception {
+        // Given
+        settingsFile(SETTINGS + lockingEnabled());
+        build(OFFLINE, CHECK_LOCKS, WRITE_LOCKS);
+        publish(repository, "other", "1.0");
+        buildFile(BUILD_FILE.formatted("\n    implementation(\"org.example:other:1.0\")"));
+        // When
+        build(OFFLINE, CHECK_LOCKS, WRITE_LOCKS);
+        // Then
+        assertThat(lockFile).content().contains("org.example:other:1.0=");
+        build(OFFLINE, CHECK_LOCKS);
+    }
+
+    private static String lockingEnabled() {
+        return """
+
+                zapCommon {
+                    dependencyLocking {
+                        enabled = true
+                    }
+                }""";
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.jupiter.api.io.TempDir;
+
+public abstract class FunctionalTest {
+
+    @TempDir protected Path projectDir;
+
+    protected static void createFile(String content, Path file) throws Exception {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+
+    protected void settingsFile(String content) throws Exception {
+        createFile(content, projectDir.resolve("settings.gradle.kts"));
+    }
+
+    protected void buildFile(String content) throws Exception {
+        createFile(content, projectDir.resolve("build.gradle.kts"));
+    }
+
+    protected BuildResult build(String... arguments) throws Exception {
+        return createRunner(arguments).build();
+    }
+
+    protected BuildResult buildAndFail(String... arguments) throws Exception {
+        return createRunner(arguments).buildAndFail();
+    }
+
+    protected static void publish(Path repository, String artifact, String... versions)
+            throws Exception {
+        Path dir = repository.resolve("org/example/" + artifact);
+        var metadataVersions = new StringBuilder();
+        for (String version : versions) {
+            createFile(
+                    """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <project xmlns="http://maven.apache.org/POM/4.0.0">
+                      <modelVersion>4.0.0</modelVersion>
+                      <groupId>org.example</groupId>
+                      <artifactId>%s</artifactId>
+                      <version>%s</version>
+                    </project>
+                    """
+                            .formatted(artifact, version),
+                    dir.resolve(version + "/" + artifact + "-" + version + ".pom"));
+            createFile("", dir.resolve(version + "/" + artifact + "-" + version + ".jar"));
+            metadataVersions.append("      <version>").append(version).append("</version>\n");
+        }
+        createFile(
+                """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <metadata>
+                  <groupId>org.example</groupId>
+                  <artifactId>%s</artifactId>
+                  <versioning>
+                    <versions>
+                %s    </versions>
+                  </versioning>
+                </metadata>
+                """
+                        .formatted(artifact, metadataVersions),
+                dir.resolve("maven-metadata.xml"));
+    }
+
+    private GradleRunner createRunner(String... arguments) {
+        return GradleRunner.create()
+                .withProjectDir(projectDir.toFile())
+                .withArguments(arguments)
+                .withPluginClasspath();
+    }
+}
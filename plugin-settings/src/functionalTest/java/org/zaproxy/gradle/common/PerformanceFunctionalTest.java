@@ -0,0 +1,125 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.BuildTask;
+import org.gradle.testkit.runner.TaskOutcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PerformanceFunctionalTest extends FunctionalTest {
+
+    private static final String CLEAN = ":clean";
+    private static final String TASK = ":cacheable";
+    private static final String REPORT = "-Porg.zaproxy.common.performance.report=true";
+    private static final String SUMMARY = "Performance settings:";
+
+    private static final String SETTINGS =
+            """
+            plugins {
+                id("org.zaproxy.common.settings")
+            }
+
+            buildCache {
+                local {
+                    directory = file("build-cache")
+                }
+            }
+            """;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buildFile(
+                """
+                plugins {
+                    base
+                }
+
+                tasks.register("cacheable") {
+                    val output = layout.buildDirectory.file("output.txt")
+                    outputs.file(output)
+                    outputs.cacheIf { true }
+                    doLast {
+                        output.get().asFile.writeText("Output")
+                    }
+                }""");
+    }
+
+    @Test
+    void shouldNotEnableBuildCache() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        build(TASK);
+        // When
+        BuildResult result = build(CLEAN, TASK);
+        // Then
+        assertTaskOutcome(result, TaskOutcome.SUCCESS);
+    }
+
+    @Test
+    void shouldReportBuildCacheEnabledWithGradleProperty() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        createFile("org.gradle.caching=true", projectDir.resolve("gradle.properties"));
+        build(TASK);
+        // When
+        BuildResult result = build(REPORT, CLEAN, TASK);
+        // Then
+        assertTaskOutcome(result, TaskOutcome.FROM_CACHE);
+        assertThat(result.getOutput()).containsPattern("buildCache\\s+true\\s+\\(Gradle\\)");
+    }
+
+    @Test
+    void shouldNotReportByDefault() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        // When
+        BuildResult result = build(TASK);
+        // Then
+        assertThat(result.getOutput()).doesNotContain(SUMMARY);
+    }
+
+    @Test
+    void shouldReportAppliedAndRecommendedValues() throws Exception {
+        // Given
+        settingsFile(SETTINGS);
+        createFile("org.gradle.parallel=true", projectDir.resolve("gradle.properties"));
+        // When
+        BuildResult result = build(REPORT, TASK);
+        // Then
+        assertThat(result.getOutput())
+                .contains(SUMMARY)
+                .containsPattern("buildCacheRetentionDays\\s+-\\s+\\(Gradle, ")
+                .containsPattern(
+                        "buildCache\\s+false\\s+"
+                                + "\\(Gradle, recommended org.gradle.caching=true\\)")
+                .containsPattern("parallel\\s+true\\s+\\(Gradle\\)")
+                .containsPattern(
+                        "configureOnDemand\\s+false\\s+"
+                                + "\\(Gradle, recommended org.gradle.configureondemand=true\\)");
+    }
+
+    private static void assertTaskOutcome(BuildResult result, TaskOutcome outcome) {
+        assertThat(result.task(TASK)).extracting(BuildTask::getOutcome).isEqualTo(outcome);
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import org.gradle.testkit.runner.BuildResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RepositoriesFunctionalTest extends FunctionalTest {
+
+    private static final String PRINT_CLASSPATH = "printClasspath";
+    private static final String OFFLINE = "--offline";
+
+    @BeforeEach
+    void setUp() throws Exception {
+        buildFile(
+                """
+                plugins {
+                    java
+                }
+
+                dependencies {
+                    implementation("org.example:lib:1.0")
+                }
+
+                val compileClasspath = configurations.compileClasspath
+
+                tasks.register("printClasspath") {
+                    val files: FileCollection = compileClasspath.get()
+                    doLast {
+                        files.forEach { println("Resolved: " + it.name) }
+                    }
+                }""");
+    }
+
+    @Test
+    void shouldUseOnlyMavenCentralByDefault() throws Exception {
+        // Given
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }
+
+                gradle.settingsEvaluated {
+                    val repositories = dependencyResolutionManagement.repositories
+                    println("Repositories: " + repositories.map { it.name })
+                }""");
+        // When
+        BuildResult result = build("help");
+        // Then
+        assertThat(result.getOutput()).contains("Repositories: [MavenRepo]");
+    }
+
+    @Test
+    void shouldResolveGroupFromItsRepository() throws Exception {
+        // Given
+        publish(projectDir.resolve("local-repo"), "lib", "1.0");
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }
+
+                zapCommon {
+                    repositories {
+                        groups {
+                            register("local") {
+                                url = uri("local-repo")
+                                includeGroups.add("org.example")
+                            }
+                        }
+                    }
+                }
+
+                gradle.settingsEvaluated {
+                    val repositories = dependencyResolutionManagement.repositories
+                    println("Repositories: " + repositories.map { it.name })
+                }""");
+        // When
+        BuildResult result = build(OFFLINE, PRINT_CLASSPATH);
+        // Then
+        assertThat(result.getOutput())
+                .contains("Repositories: [MavenRepo, local]")
+                .contains("Resolved: lib-1.0.jar");
+    }
+
+    @Test
+    void shouldNotLookUpGroupOutsideItsRepository() throws Exception {
+        // Given
+        publish(projectDir.resolve("mirror"), "lib", "1.0");
+        Files.createDirectories(projectDir.resolve("local-repo"));
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }
+
+                zapCommon {
+                    repositories {
+                        mirror = uri("mirror")
+                        groups {
+                            register("local") {
+                                url = uri("local-repo")
+                                includeGroupsByRegex.add("org\\\\.example.*")
+                            }
+                        }
+                    }
+                }""");
+        // When
+        BuildResult result = buildAndFail(OFFLINE, PRINT_CLASSPATH);
+        // Then
+        assertThat(result.getOutput())
+                .contains("Could not find org.example:lib:1.0.")
+                .contains("local-repo")
+                .doesNotContain("Resolved: lib-1.0.jar");
+    }
+
+    @Test
+    void shouldPutMirrorFirst() throws Exception {
+        // Given
+        publish(projectDir.resolve("mirror"), "lib", "1.0");
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }
+
+                zapCommon {
+                    repositories {
+                        mirror = uri("mirror")
+                    }
+                }
+
+                gradle.settingsEvaluated {
+                    val repositories = dependencyResolutionManagement.repositories
+                    println("Repositories: " + repositories.map { it.name })
+                }""");
+        // When
+        BuildResult result = build(OFFLINE, PRINT_CLASSPATH);
+        // Then
+        assertThat(result.getOutput())
+                .contains("Repositories: [zapMirror, MavenRepo]")
+                .contains("Resolved: lib-1.0.jar");
+    }
+
+    @Test
+    void shouldUseMirrorFromGradleProperty() throws Exception {
+        // Given
+        publish(projectDir.resolve("mirror"), "lib", "1.0");
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }""");
+        // When
+        BuildResult result =
+                build(OFFLINE, "-Porg.zaproxy.common.repositories.mirror=mirror", PRINT_CLASSPATH);
+        // Then
+        assertThat(result.getOutput()).contains("Resolved: lib-1.0.jar");
+    }
+
+    @Test
+    void shouldFailIfGroupHasNoUrl() throws Exception {
+        // Given
+        settingsFile(
+                """
+                plugins {
+                    id("org.zaproxy.common.settings")
+                }
+
+                zapCommon {
+                    repositories {
+                        groups {
+                            register("local") {
+                                includeGroups.add("org.example")
+                            }
+                        }
+                    }
+                }""");
+        // When
+        BuildResult result = buildAndFail("help");
+        // Then
+        assertThat(result.getOutput())
+                .contains("The URL of the repository group local must be set.");
+    }
+}
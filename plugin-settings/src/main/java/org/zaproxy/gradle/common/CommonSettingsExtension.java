@@ -0,0 +1,85 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import org.gradle.api.Action;
+import org.gradle.api.tasks.Nested;
+
+/**
+ * The extension of the settings plugin, named {@value #NAME}.
+ *
+ * @since 0.6.0
+ */
+public abstract class CommonSettingsExtension {
+
+    /** The name of the extension. */
+    public static final String NAME = "zapCommon";
+
+    /**
+     * Gets the settings of the repositories used to resolve the dependencies.
+     *
+     * @return the settings, never {@code null}.
+     */
+    @Nested
+    public abstract RepositoriesSettings getRepositories();
+
+    /**
+     * Configures the settings of the repositories used to resolve the dependencies.
+     *
+     * @param action the action that configures the settings.
+     */
+    public void repositories(Action<? super RepositoriesSettings> action) {
+        action.execute(getRepositories());
+    }
+
+    /**
+     * Gets the settings of the performance of the build.
+     *
+     * @return the settings, never {@code null}.
+     */
+    @Nested
+    public abstract PerformanceSettings getPerformance();
+
+    /**
+     * Configures the settings of the performance of the build.
+     *
+     * @param action the action that configures the settings.
+     */
+    public void performance(Action<? super PerformanceSettings> action) {
+        action.execute(getPerformance());
+    }
+
+    /**
+     * Gets the settings of the locking of the dependencies.
+     *
+     * @return the settings, never {@code null}.
+     */
+    @Nested
+    public abstract DependencyLockingSettings getDependencyLocking();
+
+    /**
+     * Configures the settings of the locking of the dependencies.
+     *
+     * @param action the action that configures the settings.
+     */
+    public void dependencyLocking(Action<? super DependencyLockingSettings> action) {
+        action.execute(getDependencyLocking());
+    }
+}
@@ -19,14 +19,178 @@
  */
 package org.zaproxy.gradle.common;
 
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import javax.inject.Inject;
+import org.gradle.api.InvalidUserDataException;
 import org.gradle.api.Plugin;
+import org.gradle.api.Project;
+import org.gradle.api.artifacts.Configuration;
+import org.gradle.api.artifacts.ConfigurationContainer;
+import org.gradle.api.artifacts.dsl.LockMode;
+import org.gradle.api.artifacts.dsl.RepositoryHandler;
+import org.gradle.api.artifacts.repositories.MavenArtifactRepository;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.configuration.BuildFeatures;
 import org.gradle.api.initialization.Settings;
+import org.gradle.api.provider.Provider;
+import org.gradle.language.base.plugins.LifecycleBasePlugin;
+import org.zaproxy.gradle.common.tasks.ResolveConfigurations;
 
 /** A plugin for common ZAP build-related settings. */
 public class CommonSettingsPlugin implements Plugin<Settings> {
 
+    private final BuildFeatures buildFeatures;
+
+    @Inject
+    public CommonSettingsPlugin(BuildFeatures buildFeatures) {
+        this.buildFeatures = buildFeatures;
+    }
+
     @Override
     public void apply(Settings target) {
-        target.getDependencyResolutionManagement().getRepositories().mavenCentral();
+        CommonSettingsExtension extension =
+                target.getExtensions()
+                        .create(CommonSettingsExtension.NAME, CommonSettingsExtension.class);
+        RepositoriesSettings repositoriesSettings = extension.getRepositories();
+        repositoriesSettings
+                .getMirror()
+                .convention(
+                        target.getProviders()
+                                .gradleProperty(RepositoriesSettings.MIRROR_PROPERTY)
+                                .map(value -> toUri(target.getSettingsDir(), value)));
+
+        RepositoryHandler repositories =
+                target.getDependencyResolutionManagement().getRepositories();
+        repositories.mavenCentral();
+
+        PerformanceSettings performanceSettings = extension.getPerformance();
+        performanceSettings
+                .getReport()
+                .convention(
+                        booleanGradleProperty(target, PerformanceSettings.REPORT_PROPERTY, false));
+        var performanceDefaults = new PerformanceDefaults(target, buildFeatures);
+        performanceDefaults.applyBuildCacheRetention(target);
+
+        DependencyLockingSettings dependencyLockingSettings = extension.getDependencyLocking();
+        dependencyLockingSettings
+                .getEnabled()
+                .convention(
+                        booleanGradleProperty(
+                                target, DependencyLockingSettings.ENABLED_PROPERTY, false));
+        dependencyLockingSettings.getLockMode().convention(LockMode.DEFAULT);
+
+        target.getGradle()
+                .settingsEvaluated(
+                        settings -> {
+                            configureRepositories(repositoriesSettings, repositories);
+                            performanceDefaults.report(performanceSettings);
+                            configureDependencyLocking(settings, dependencyLockingSettings);
+                        });
+    }
+
+    private static Provider<Boolean> booleanGradleProperty(
+            Settings settings, String name, boolean defaultValue) {
+        return settings.getProviders()
+                .gradleProperty(name)
+                .map(Boolean::parseBoolean)
+                .orElse(defaultValue);
+    }
+
+    private static URI toUri(File settingsDir, String value) {
+        URI uri = URI.create(value.trim());
+        if (uri.getScheme() != null) {
+            return uri;
+        }
+        return settingsDir.toPath().resolve(value.trim()).toUri();
+    }
+
+    private static void configureRepositories(
+            RepositoriesSettings settings, RepositoryHandler repositories) {
+        for (RepositoryGroup group : settings.getGroups()) {
+            String name = group.getName();
+            if (!group.getUrl().isPresent()) {
+                throw new InvalidUserDataException(
+                        "The URL of the repository group " + name + " must be set.");
+            }
+            Set<String> groups = group.getIncludeGroups().get();
+            Set<String> regexes = group.getIncludeGroupsByRegex().get();
+            if (groups.isEmpty() && regexes.isEmpty()) {
+                throw new InvalidUserDataException(
+                        "The repository group " + name + " must include at least one group.");
+            }
+
+            repositories.exclusiveContent(
+                    exclusiveContent ->
+                            exclusiveContent
+                                    .forRepositories(
+                                            repositories.maven(
+                                                    repository -> {
+                                                        repository.setName(name);
+                                                        repository.setUrl(group.getUrl().get());
+                                                    }))
+                                    .filter(
+                                            filter -> {
+                                                groups.forEach(filter::includeGroup);
+                                                regexes.forEach(filter::includeGroupByRegex);
+                                            }));
+        }
+
+        if (settings.getMirror().isPresent()) {
+            MavenArtifactRepository mirror =
+                    repositories.maven(
+                            repository -> {
+                                repository.setName(RepositoriesSettings.MIRROR_REPOSITORY_NAME);
+                                repository.setUrl(settings.getMirror().get());
+                            });
+            repositories.remove(mirror);
+            repositories.addFirst(mirror);
+        }
+    }
+
+    private static void configureDependencyLocking(
+            Settings settings, DependencyLockingSettings dependencyLockingSettings) {
+        if (!dependencyLockingSettings.getEnabled().get()) {
+            return;
+        }
+
+        LockMode lockMode = dependencyLockingSettings.getLockMode().get();
+        settings.getGradle()
+                .getLifecycle()
+                .beforeProject(project -> lockDependencies(project, lockMode));
+    }
+
+    private static void lockDependencies(Project project, LockMode lockMode) {
+        project.getDependencyLocking().lockAllConfigurations();
+        project.getDependencyLocking().getLockMode().set(lockMode);
+
+        ConfigurationContainer configurations = project.getConfigurations();
+        Provider<List<ResolvedComponentResult>> rootComponents =
+                project.provider(
+                        () ->
+                                configurations.stream()
+                                        .filter(Configuration::isCanBeResolved)
+                                        .map(
+                                                configuration ->
+                                                        configuration
+                                                                .getIncoming()
+                                                                .getResolutionResult()
+                                                                .getRootComponent()
+                                                                .get())
+                                        .toList());
+
+        project.getTasks()
+                .register(
+                        DependencyLockingSettings.CHECK_LOCKS_TASK_NAME,
+                        ResolveConfigurations.class,
+                        task -> {
+                            task.setGroup(LifecycleBasePlugin.VERIFICATION_GROUP);
+                            task.setDescription(
+                                    "Fails if the dependency locks of the configurations are"
+                                            + " stale, or writes them if run with --write-locks.");
+                            task.getRootComponents().set(rootComponents);
+                        });
     }
 }
@@ -0,0 +1,61 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import org.gradle.api.artifacts.dsl.LockMode;
+import org.gradle.api.provider.Property;
+
+/**
+ * The settings of the locking of the dependencies, of all the configurations of all the projects.
+ *
+ * <p>When enabled, the projects have the task {@value #CHECK_LOCKS_TASK_NAME}, which resolves all
+ * the configurations and fails if the locks are stale, for example, if a dependency was added or
+ * removed after writing the locks. The locks are written, or updated, by running the task with
+ * Gradle's {@code --write-locks} option.
+ *
+ * @since 0.6.0
+ */
+public abstract class DependencyLockingSettings {
+
+    /** The Gradle property that allows to enable the locking, for example, per build. */
+    public static final String ENABLED_PROPERTY = "org.zaproxy.common.dependencyLocking";
+
+    /** The name of the task that checks, or writes, the locks. */
+    public static final String CHECK_LOCKS_TASK_NAME = "checkLocks";
+
+    /**
+     * Gets whether or not the dependencies should be locked.
+     *
+     * <p>Defaults to the value of the Gradle property {@value #ENABLED_PROPERTY}, if set,
+     * otherwise, {@code false}.
+     *
+     * @return the property that controls the locking.
+     */
+    public abstract Property<Boolean> getEnabled();
+
+    /**
+     * Gets the lock mode.
+     *
+     * <p>Defaults to {@link LockMode#DEFAULT}, the configurations without locks are not locked.
+     *
+     * @return the property with the lock mode.
+     */
+    public abstract Property<LockMode> getLockMode();
+}
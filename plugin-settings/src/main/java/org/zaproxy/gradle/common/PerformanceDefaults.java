@@ -0,0 +1,150 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.gradle.StartParameter;
+import org.gradle.api.configuration.BuildFeature;
+import org.gradle.api.configuration.BuildFeatures;
+import org.gradle.api.initialization.Settings;
+import org.gradle.api.logging.LogLevel;
+import org.gradle.api.logging.Logger;
+import org.gradle.api.logging.Logging;
+import org.gradle.api.provider.ProviderFactory;
+
+/** Applies, checks, and reports the defaults of the performance settings. */
+class PerformanceDefaults {
+
+    private static final Logger LOGGER = Logging.getLogger(PerformanceDefaults.class);
+
+    private static final String GRADLE_BUILD_CACHE_PROPERTY = "org.gradle.caching";
+    private static final String GRADLE_PARALLEL_PROPERTY = "org.gradle.parallel";
+    private static final String GRADLE_CONFIGURE_ON_DEMAND_PROPERTY =
+            "org.gradle.configureondemand";
+    private static final String GRADLE_FILE_SYSTEM_WATCHING_PROPERTY = "org.gradle.vfs.watch";
+
+    private final ProviderFactory providers;
+    private final StartParameter startParameter;
+    private final BuildFeatures buildFeatures;
+    private final List<String> report;
+
+    PerformanceDefaults(Settings settings, BuildFeatures buildFeatures) {
+        this.providers = settings.getProviders();
+        this.startParameter = settings.getStartParameter();
+        this.buildFeatures = buildFeatures;
+        this.report = new ArrayList<>();
+    }
+
+    /**
+     * Sets the retention of the entries of the build cache, which Gradle allows only while
+     * running the init scripts.
+     *
+     * @param settings the settings being applied.
+     */
+    void applyBuildCacheRetention(Settings settings) {
+        int days =
+                providers
+                        .gradleProperty(PerformanceSettings.BUILD_CACHE_RETENTION_DAYS_PROPERTY)
+                        .map(Integer::parseInt)
+                        .getOrElse(PerformanceSettings.DEFAULT_BUILD_CACHE_RETENTION_DAYS);
+        try {
+            settings.getCaches().getBuildCache().setRemoveUnusedEntriesAfterDays(days);
+            add("buildCacheRetentionDays", days, "plugin");
+        } catch (IllegalStateException e) {
+            add(
+                    "buildCacheRetentionDays",
+                    "-",
+                    "Gradle, the plugin can set it only if applied from an init script");
+        }
+    }
+
+    /**
+     * Checks the other defaults, which are read by Gradle before the settings plugins are applied,
+     * and reports them.
+     *
+     * @param settings the performance settings.
+     */
+    void report(PerformanceSettings settings) {
+        checkBuildCache();
+        checkParallel();
+        checkConfigureOnDemand();
+        checkFileSystemWatching();
+
+        LogLevel level = settings.getReport().get() ? LogLevel.LIFECYCLE : LogLevel.INFO;
+        if (LOGGER.isEnabled(level)) {
+            LOGGER.log(level, "Performance settings:\n{}", String.join("\n", report));
+        }
+    }
+
+    private void checkBuildCache() {
+        check(
+                "buildCache",
+                startParameter.isBuildCacheEnabled(),
+                true,
+                GRADLE_BUILD_CACHE_PROPERTY);
+    }
+
+    private void checkParallel() {
+        check(
+                "parallel",
+                startParameter.isParallelProjectExecutionEnabled(),
+                true,
+                GRADLE_PARALLEL_PROPERTY);
+    }
+
+    private void checkConfigureOnDemand() {
+        boolean compatible =
+                !isRequested(buildFeatures.getConfigurationCache())
+                        && !isRequested(buildFeatures.getIsolatedProjects());
+        check(
+                "configureOnDemand",
+                startParameter.isConfigureOnDemand(),
+                compatible,
+                GRADLE_CONFIGURE_ON_DEMAND_PROPERTY);
+    }
+
+    private void checkFileSystemWatching() {
+        // Enabled by default, in the supported operating systems.
+        boolean enabled =
+                providers
+                        .gradleProperty(GRADLE_FILE_SYSTEM_WATCHING_PROPERTY)
+                        .map(Boolean::parseBoolean)
+                        .getOrElse(true);
+        check("fileSystemWatching", enabled, true, GRADLE_FILE_SYSTEM_WATCHING_PROPERTY);
+    }
+
+    private static boolean isRequested(BuildFeature feature) {
+        return feature.getRequested().getOrElse(false);
+    }
+
+    private void check(String name, boolean value, boolean recommended, String property) {
+        add(
+                name,
+                value,
+                value == recommended
+                        ? "Gradle"
+                        : "Gradle, recommended " + property + "=" + recommended);
+    }
+
+    private void add(String name, Object value, String source) {
+        report.add(String.format("  %-24s %-6s (%s)", name, value, source));
+    }
+}
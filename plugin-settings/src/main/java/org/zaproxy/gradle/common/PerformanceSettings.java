@@ -0,0 +1,64 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import org.gradle.api.provider.Property;
+
+/**
+ * The settings of the performance of the build.
+ *
+ * <p>The plugin sets the retention of the entries of the build cache, the recommended defaults,
+ * build cache, parallel project execution, configuration on demand, and file-system watching, are
+ * read by Gradle before the settings plugins are applied, so they are only checked and reported,
+ * they should be set in the {@code gradle.properties} file.
+ *
+ * <p>The entries of the build cache are kept for {@value #DEFAULT_BUILD_CACHE_RETENTION_DAYS} days
+ * after last used, or the days set with the Gradle property {@value
+ * #BUILD_CACHE_RETENTION_DAYS_PROPERTY}. Gradle allows to set the retention only from init
+ * scripts, so it's applied only if the plugin is applied from an init script, for example, with
+ * {@code beforeSettings { apply<CommonSettingsPlugin>() }}.
+ *
+ * @since 0.6.0
+ */
+public abstract class PerformanceSettings {
+
+    /** The Gradle property that allows to set the days the entries of the build cache are kept. */
+    public static final String BUILD_CACHE_RETENTION_DAYS_PROPERTY =
+            "org.zaproxy.common.performance.buildCacheRetentionDays";
+
+    /** The Gradle property that allows to enable the report, for example, per build. */
+    public static final String REPORT_PROPERTY = "org.zaproxy.common.performance.report";
+
+    static final int DEFAULT_BUILD_CACHE_RETENTION_DAYS = 7;
+
+    /**
+     * Gets whether or not the values of the performance settings should be reported.
+     *
+     * <p>If enabled, the values, where they come from, and the recommended values not in effect
+     * are logged once the settings are evaluated, otherwise they are logged only with {@code
+     * --info}.
+     *
+     * <p>Defaults to the value of the Gradle property {@value #REPORT_PROPERTY}, if set,
+     * otherwise, {@code false}.
+     *
+     * @return the property that controls the report.
+     */
+    public abstract Property<Boolean> getReport();
+}
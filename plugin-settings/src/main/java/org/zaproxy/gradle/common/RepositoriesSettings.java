@@ -0,0 +1,75 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.net.URI;
+import org.gradle.api.Action;
+import org.gradle.api.NamedDomainObjectContainer;
+import org.gradle.api.provider.Property;
+
+/**
+ * The settings of the repositories used to resolve the dependencies.
+ *
+ * <p>The repositories are added after evaluating the settings script, the mirror, if any, is
+ * added first and the repository groups last, after {@code mavenCentral()}.
+ *
+ * @since 0.6.0
+ */
+public abstract class RepositoriesSettings {
+
+    /** The Gradle property that allows to set the mirror, for example, per machine. */
+    public static final String MIRROR_PROPERTY = "org.zaproxy.common.repositories.mirror";
+
+    /** The name of the repository of the mirror. */
+    public static final String MIRROR_REPOSITORY_NAME = "zapMirror";
+
+    /**
+     * Gets the URL of the mirror, a Maven repository that is looked up before all the others.
+     *
+     * <p>For example, a local file-based or LAN mirror of Maven Central, the artifacts found in
+     * the mirror are not looked up in the other repositories.
+     *
+     * <p>Defaults to the value of the Gradle property {@value #MIRROR_PROPERTY}, if set, either a
+     * URL or a path relative to the settings directory, otherwise, not set.
+     *
+     * @return the property with the URL of the mirror.
+     */
+    public abstract Property<URI> getMirror();
+
+    /**
+     * Gets the repository groups, each with a repository exclusively used for the dependencies
+     * of the given groups.
+     *
+     * <p>The dependencies of those groups are looked up only in the repository of the group, and
+     * the repository is used only for those groups.
+     *
+     * @return the repository groups, never {@code null}.
+     */
+    public abstract NamedDomainObjectContainer<RepositoryGroup> getGroups();
+
+    /**
+     * Configures the repository groups.
+     *
+     * @param action the action that configures the repository groups.
+     */
+    public void groups(Action<? super NamedDomainObjectContainer<RepositoryGroup>> action) {
+        action.execute(getGroups());
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common;
+
+import java.net.URI;
+import org.gradle.api.Named;
+import org.gradle.api.provider.Property;
+import org.gradle.api.provider.SetProperty;
+
+/**
+ * A Maven repository used exclusively for the dependencies of some groups.
+ *
+ * <p>The name is also used as the name of the repository.
+ *
+ * @since 0.6.0
+ */
+public abstract class RepositoryGroup implements Named {
+
+    /**
+     * Gets the URL of the Maven repository.
+     *
+     * @return the property with the URL, must be set.
+     */
+    public abstract Property<URI> getUrl();
+
+    /**
+     * Gets the groups of the dependencies, for example, {@code org.zaproxy}.
+     *
+     * @return the property with the groups.
+     */
+    public abstract SetProperty<String> getIncludeGroups();
+
+    /**
+     * Gets the regular expressions that match the groups of the dependencies, for example, {@code
+     * org\.zaproxy(\..*)?}.
+     *
+     * <p>At least one group or regular expression must be included.
+     *
+     * @return the property with the regular expressions.
+     */
+    public abstract SetProperty<String> getIncludeGroupsByRegex();
+}
@@ -0,0 +1,83 @@
+/*
+ * Zed Attack Proxy (ZAP) and its related class files.
+ *
+ * ZAP is an HTTP/HTTPS proxy for assessing web application security.
+ *
+ * Copyright 2025 The ZAP Development Team
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.zaproxy.gradle.common.tasks;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.gradle.api.DefaultTask;
+import org.gradle.api.GradleException;
+import org.gradle.api.artifacts.result.DependencyResult;
+import org.gradle.api.artifacts.result.ResolvedComponentResult;
+import org.gradle.api.artifacts.result.ResolvedDependencyResult;
+import org.gradle.api.artifacts.result.UnresolvedDependencyResult;
+import org.gradle.api.provider.ListProperty;
+import org.gradle.api.tasks.Internal;
+import org.gradle.api.tasks.TaskAction;
+
+/**
+ * A task that resolves the dependency graphs of configurations, for example, to write or check
+ * their locks.
+ *
+ * <p>Only the graphs are resolved, not the artifacts. The task fails if any of the dependencies
+ * could not be resolved, for example, if the locks are stale.
+ *
+ * @since 0.6.0
+ */
+public abstract class ResolveConfigurations extends DefaultTask {
+
+    /**
+     * Gets the root components of the configurations to resolve.
+     *
+     * @return the property with the root components.
+     */
+    @Internal
+    public abstract ListProperty<ResolvedComponentResult> getRootComponents();
+
+    @TaskAction
+    void resolve() {
+        Set<String> failures = new LinkedHashSet<>();
+        Set<ResolvedComponentResult> visited = new HashSet<>();
+        Deque<ResolvedComponentResult> pending = new ArrayDeque<>(getRootComponents().get());
+        while (!pending.isEmpty()) {
+            ResolvedComponentResult component = pending.poll();
+            if (!visited.add(component)) {
+                continue;
+            }
+            for (DependencyResult dependency : component.getDependencies()) {
+                if (dependency instanceof ResolvedDependencyResult resolved) {
+                    pending.add(resolved.getSelected());
+                } else if (dependency instanceof UnresolvedDependencyResult unresolved) {
+                    failures.add(
+                            unresolved.getRequested().getDisplayName()
+                                    + ": "
+                                    + unresolved.getFailure().getMessage());
+                }
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            throw new GradleException(
+                    "Failed to resolve the dependencies:\n" + String.join("\n", failures));
+        }
+    }
+}